@@ -2,6 +2,7 @@ package com.editorial.authors.application.mapper;
 
 import com.editorial.authors.domain.entity.Author;
 import com.editorial.authors.presentation.dto.AuthorResponseDTO;
+import com.editorial.authors.presentation.dto.AuthorSummaryDTO;
 import com.editorial.authors.presentation.dto.CreateAuthorDTO;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -13,6 +14,8 @@ public interface AuthorMapper {
     @Mapping(source = "id", target = "id")
     AuthorResponseDTO toResponseDTO(Author author);
 
+    AuthorSummaryDTO toSummaryDTO(Author author);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
@@ -1,10 +1,14 @@
 package com.editorial.authors.application.service;
 
+import com.editorial.authors.presentation.dto.AuthorIdChangesDTO;
 import com.editorial.authors.presentation.dto.AuthorResponseDTO;
+import com.editorial.authors.presentation.dto.AuthorSummaryDTO;
+import com.editorial.authors.presentation.dto.AuthorTypeaheadDTO;
 import com.editorial.authors.presentation.dto.CreateAuthorDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface IAuthorService {
@@ -13,10 +17,14 @@ public interface IAuthorService {
 
     AuthorResponseDTO getAuthorById(Long id);
 
+    AuthorSummaryDTO getAuthorSummaryById(Long id);
+
     Page<AuthorResponseDTO> getAllAuthors(Pageable pageable);
 
     Page<AuthorResponseDTO> searchAuthors(String keyword, Pageable pageable);
 
+    List<AuthorTypeaheadDTO> getAuthorSuggestions(String query, int limit);
+
     AuthorResponseDTO updateAuthor(Long id, CreateAuthorDTO updateAuthorDTO);
 
     void deleteAuthor(Long id);
@@ -25,5 +33,11 @@ public interface IAuthorService {
 
     List<AuthorResponseDTO> getAuthorsByIds(List<Long> ids);
 
+    List<AuthorSummaryDTO> getAuthorSummariesByIds(List<Long> ids);
+
     long getTotalActiveAuthors();
+
+    byte[] getActiveAuthorIdsSnapshot();
+
+    AuthorIdChangesDTO getAuthorIdChangesSince(LocalDateTime since);
 }
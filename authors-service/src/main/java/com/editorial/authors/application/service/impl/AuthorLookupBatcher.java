@@ -0,0 +1,167 @@
+package com.editorial.authors.application.service.impl;
+
+import com.editorial.authors.domain.entity.Author;
+import com.editorial.authors.domain.repository.AuthorRepository;
+import com.editorial.authors.infrastructure.logging.RequestTimings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Agrupa las búsquedas por ID que llegan casi a la vez (getAuthorById, authorExists): la primera
+// abre una ventana de window-micros y todas las que llegan dentro se resuelven con una sola
+// consulta IN (o desde la caché de segundo nivel). Si el lote llega a max-size se envía sin esperar.
+@Component
+@Slf4j
+public class AuthorLookupBatcher {
+
+    private final AuthorRepository authorRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long windowMicros;
+    private final int maxBatchSize;
+    private final long timeout;
+    private final ScheduledExecutorService executor;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter lookupCounter;
+    private final Object lock = new Object();
+
+    private Batch current;
+
+    public AuthorLookupBatcher(AuthorRepository authorRepository,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${authors.lookup-batch.enabled:true}") boolean enabled,
+                               @Value("${authors.lookup-batch.window-micros:500}") long windowMicros,
+                               @Value("${authors.lookup-batch.max-size:100}") int maxBatchSize,
+                               @Value("${authors.lookup-batch.timeout:2000}") long timeout,
+                               @Value("${authors.lookup-batch.threads:4}") int threads) {
+        this.authorRepository = authorRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        this.windowMicros = windowMicros;
+        this.maxBatchSize = maxBatchSize;
+        this.timeout = timeout;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newScheduledThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "author-lookup-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchSizeSummary = DistributionSummary.builder("authors.lookup.batch.size")
+                .description("Distinct author ids resolved per batched lookup query")
+                .register(meterRegistry);
+        this.lookupCounter = Counter.builder("authors.lookup.requests")
+                .description("Author lookups served through the batcher")
+                .register(meterRegistry);
+    }
+
+    public Optional<Author> findById(Long id) {
+        if (!enabled) {
+            return authorRepository.findById(id);
+        }
+        lookupCounter.increment();
+        try {
+            return enqueue(id).get(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while looking up author " + id, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Author lookup failed for id " + id, e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Author lookup timed out for id " + id, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private CompletableFuture<Optional<Author>> enqueue(Long id) {
+        Batch full = null;
+        CompletableFuture<Optional<Author>> future;
+        synchronized (lock) {
+            if (current == null) {
+                Batch batch = new Batch();
+                current = batch;
+                executor.schedule(() -> closeAndDispatch(batch), windowMicros, TimeUnit.MICROSECONDS);
+            }
+            // Un mismo ID pedido varias veces en la ventana comparte el resultado
+            future = current.futures.computeIfAbsent(id, key -> new CompletableFuture<>());
+            RequestTimings requestTimings = RequestTimings.current();
+            if (requestTimings != null) {
+                current.requests.add(requestTimings);
+            }
+            if (current.futures.size() >= maxBatchSize) {
+                full = current;
+                current = null;
+            }
+        }
+        if (full != null) {
+            Batch batch = full;
+            executor.execute(() -> dispatch(batch));
+        }
+        return future;
+    }
+
+    private void closeAndDispatch(Batch batch) {
+        synchronized (lock) {
+            if (current == batch) {
+                current = null;
+            }
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(Batch batch) {
+        if (!batch.dispatched.compareAndSet(false, true)) {
+            return;
+        }
+        batchSizeSummary.record(batch.futures.size());
+        try {
+            // La consulta se atribuye a cada petición del lote (db_ms, db_calls, sql_statements del access log)
+            List<Author> authors = RequestTimings.recordOnBehalfOf(batch.requests, () -> transactionTemplate.execute(
+                    status -> authorRepository.findAllByIdCached(batch.futures.keySet())));
+            Map<Long, Author> byId = new HashMap<>();
+            if (authors != null) {
+                authors.forEach(author -> byId.put(author.getId(), author));
+            }
+            batch.futures.forEach((id, future) -> future.complete(Optional.ofNullable(byId.get(id))));
+        } catch (RuntimeException e) {
+            log.error("Batched author lookup failed for {} ids: {}", batch.futures.size(), e.getMessage());
+            batch.futures.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    // Solo se modifica bajo lock hasta que sale de current; después solo se lee
+    private static final class Batch {
+
+        private final Map<Long, CompletableFuture<Optional<Author>>> futures = new HashMap<>();
+        private final List<RequestTimings> requests = new ArrayList<>();
+        private final AtomicBoolean dispatched = new AtomicBoolean(false);
+    }
+}
@@ -6,16 +6,31 @@ import com.editorial.authors.domain.entity.Author;
 import com.editorial.authors.domain.repository.AuthorRepository;
 import com.editorial.authors.infrastructure.exception.AuthorNotFoundException;
 import com.editorial.authors.infrastructure.exception.EmailAlreadyExistsException;
+import com.editorial.authors.infrastructure.exception.InvalidAuthorDataException;
+import com.editorial.authors.infrastructure.typeahead.AuthorTypeaheadIndex;
+import com.editorial.authors.presentation.dto.AuthorIdChangesDTO;
 import com.editorial.authors.presentation.dto.AuthorResponseDTO;
+import com.editorial.authors.presentation.dto.AuthorSummaryDTO;
+import com.editorial.authors.presentation.dto.AuthorTypeaheadDTO;
 import com.editorial.authors.presentation.dto.CreateAuthorDTO;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -23,9 +38,14 @@ import java.util.List;
 @Transactional
 public class AuthorServiceImpl implements IAuthorService {
 
+    private static final String EMAIL_CONSTRAINT = "uk_authors_email";
+
     private final AuthorRepository authorRepository;
     private final AuthorMapper authorMapper;
     private final AuthorValidator authorValidator;
+    private final EmailBloomFilter emailBloomFilter;
+    private final AuthorLookupBatcher authorLookupBatcher;
+    private final AuthorTypeaheadIndex authorTypeaheadIndex;
 
     @Override
     public AuthorResponseDTO createAuthor(CreateAuthorDTO createAuthorDTO) {
@@ -34,23 +54,37 @@ public class AuthorServiceImpl implements IAuthorService {
         authorValidator.validateCreateAuthor(createAuthorDTO);
 
         Author author = authorMapper.toEntity(createAuthorDTO);
-        Author savedAuthor = authorRepository.save(author);
+        Author savedAuthor = saveCheckingEmail(author);
+        emailBloomFilter.put(savedAuthor.getEmail());
+        authorTypeaheadIndex.put(savedAuthor);
 
         log.info("Author created successfully with id: {}", savedAuthor.getId());
         return mapToResponseDTO(savedAuthor);
     }
 
+    // Sin transacción propia: la consulta la hace el lote en otro hilo y aquí no se retiene una conexión
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthorResponseDTO getAuthorById(Long id) {
         log.debug("Fetching author with id: {}", id);
 
-        Author author = authorRepository.findById(id)
+        Author author = authorLookupBatcher.findById(id)
                 .orElseThrow(() -> new AuthorNotFoundException("Author not found with id: " + id));
 
         return mapToResponseDTO(author);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public AuthorSummaryDTO getAuthorSummaryById(Long id) {
+        log.debug("Fetching author summary with id: {}", id);
+
+        Author author = authorRepository.findById(id)
+                .orElseThrow(() -> new AuthorNotFoundException("Author not found with id: " + id));
+
+        return authorMapper.toSummaryDTO(author);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<AuthorResponseDTO> getAllAuthors(Pageable pageable) {
@@ -67,6 +101,21 @@ public class AuthorServiceImpl implements IAuthorService {
                 .map(this::mapToResponseDTO);
     }
 
+    // Se resuelve en el índice en memoria, sin transacción ni consultas
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<AuthorTypeaheadDTO> getAuthorSuggestions(String query, int limit) {
+        if (limit < 1 || limit > authorTypeaheadIndex.getMaxResults()) {
+            throw new InvalidAuthorDataException("limit must be between 1 and " + authorTypeaheadIndex.getMaxResults());
+        }
+        return authorTypeaheadIndex.suggest(query, limit).stream()
+                .map(suggestion -> AuthorTypeaheadDTO.builder()
+                        .id(suggestion.authorId())
+                        .displayName(Author.displayName(suggestion.name(), suggestion.authorType()))
+                        .build())
+                .toList();
+    }
+
     @Override
     public AuthorResponseDTO updateAuthor(Long id, CreateAuthorDTO updateAuthorDTO) {
         log.info("Updating author with id: {}", id);
@@ -77,7 +126,9 @@ public class AuthorServiceImpl implements IAuthorService {
         authorValidator.validateUpdateAuthor(updateAuthorDTO, id);
 
         authorMapper.updateEntityFromDTO(updateAuthorDTO, author);
-        Author updatedAuthor = authorRepository.save(author);
+        Author updatedAuthor = saveCheckingEmail(author);
+        emailBloomFilter.put(updatedAuthor.getEmail());
+        authorTypeaheadIndex.put(updatedAuthor);
 
         log.info("Author updated successfully with id: {}", id);
         return mapToResponseDTO(updatedAuthor);
@@ -92,14 +143,16 @@ public class AuthorServiceImpl implements IAuthorService {
 
         author.setIsActive(false);
         authorRepository.save(author);
+        authorTypeaheadIndex.remove(id);
 
         log.info("Author soft-deleted with id: {}", id);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean authorExists(Long id) {
-        boolean exists = authorRepository.existsById(id);
+        // El lote se resuelve desde la caché de segundo nivel y solo consulta los IDs que faltan
+        boolean exists = authorLookupBatcher.findById(id).isPresent();
         log.debug("Checking if author exists with id: {} - Result: {}", id, exists);
         return exists;
     }
@@ -114,12 +167,85 @@ public class AuthorServiceImpl implements IAuthorService {
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<AuthorSummaryDTO> getAuthorSummariesByIds(List<Long> ids) {
+        log.debug("Fetching author summaries by ids: {}", ids);
+        return authorRepository.findAllById(ids)
+                .stream()
+                .map(authorMapper::toSummaryDTO)
+                .toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public long getTotalActiveAuthors() {
         return authorRepository.countActive();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public byte[] getActiveAuthorIdsSnapshot() {
+        RoaringBitmap activeIds = new RoaringBitmap();
+        try (Stream<Long> ids = authorRepository.streamActiveIds()) {
+            ids.forEach(id -> {
+                // Los IDs fuera del rango de 32 bits se consultan siempre de forma remota
+                if (id <= Integer.MAX_VALUE) {
+                    activeIds.add(id.intValue());
+                }
+            });
+        }
+        activeIds.runOptimize();
+        log.debug("Active author ID snapshot built with {} ids ({} bytes)",
+                activeIds.getLongCardinality(), activeIds.serializedSizeInBytes());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(activeIds.serializedSizeInBytes());
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            activeIds.serialize(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AuthorIdChangesDTO getAuthorIdChangesSince(LocalDateTime since) {
+        LocalDateTime asOf = LocalDateTime.now();
+        List<Long> activated = new ArrayList<>();
+        List<Long> deactivated = new ArrayList<>();
+
+        for (AuthorRepository.AuthorActivity activity : authorRepository.findActivityChangedSince(since)) {
+            if (Boolean.TRUE.equals(activity.getIsActive())) {
+                activated.add(activity.getId());
+            } else {
+                deactivated.add(activity.getId());
+            }
+        }
+
+        log.debug("Author id changes since {}: {} activated, {} deactivated", since, activated.size(), deactivated.size());
+        return AuthorIdChangesDTO.builder()
+                .asOf(asOf)
+                .activated(activated)
+                .deactivated(deactivated)
+                .build();
+    }
+
+    // El filtro de emails puede no conocer aún un alta de otra réplica o escrita directamente en la base
+    // de datos: entonces la restricción única es la que detecta el duplicado. saveAndFlush hace que la
+    // violación salte aquí (también en las modificaciones) y no al confirmar la transacción
+    private Author saveCheckingEmail(Author author) {
+        try {
+            return authorRepository.saveAndFlush(author);
+        } catch (DataIntegrityViolationException e) {
+            String cause = e.getMostSpecificCause().getMessage();
+            if (cause != null && cause.contains(EMAIL_CONSTRAINT)) {
+                throw new EmailAlreadyExistsException("Email already exists: " + author.getEmail());
+            }
+            throw e;
+        }
+    }
+
     private AuthorResponseDTO mapToResponseDTO(Author author) {
         AuthorResponseDTO dto = authorMapper.toResponseDTO(author);
         dto.setDisplayName(author.getDisplayName());
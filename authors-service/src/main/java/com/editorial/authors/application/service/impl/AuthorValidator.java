@@ -14,6 +14,7 @@ import org.springframework.stereotype.Component;
 public class AuthorValidator {
 
     private final AuthorRepository authorRepository;
+    private final EmailBloomFilter emailBloomFilter;
 
     public void validateCreateAuthor(CreateAuthorDTO createAuthorDTO) {
         log.debug("Validating create author data: {}", createAuthorDTO.getEmail());
@@ -30,7 +31,9 @@ public class AuthorValidator {
             throw new InvalidAuthorDataException("Author type is required");
         }
 
-        if (authorRepository.findByEmail(createAuthorDTO.getEmail()).isPresent()) {
+        // Un fallo del filtro es definitivo; un posible acierto se confirma en base de datos
+        if (emailBloomFilter.mightContain(createAuthorDTO.getEmail())
+                && authorRepository.existsByEmail(createAuthorDTO.getEmail())) {
             throw new EmailAlreadyExistsException("Email already exists: " + createAuthorDTO.getEmail());
         }
 
@@ -49,7 +52,8 @@ public class AuthorValidator {
                 throw new InvalidAuthorDataException("Invalid email format");
             }
 
-            if (authorRepository.existsByEmailAndIdNot(updateAuthorDTO.getEmail(), authorId)) {
+            if (emailBloomFilter.mightContain(updateAuthorDTO.getEmail())
+                    && authorRepository.existsByEmailAndIdNot(updateAuthorDTO.getEmail(), authorId)) {
                 throw new EmailAlreadyExistsException("Email already exists: " + updateAuthorDTO.getEmail());
             }
         }
@@ -0,0 +1,162 @@
+package com.editorial.authors.application.service.impl;
+
+import com.editorial.authors.domain.repository.AuthorRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+// Filtro de Bloom de los emails registrados: un fallo es definitivo y evita la consulta de unicidad.
+// Se carga al arrancar, se alimenta con las altas y modificaciones de esta réplica y un delta periódico
+// por updated_at recoge las de otras réplicas; lo escrito en la base de datos sin tocar updated_at solo
+// lo detecta la restricción única (uk_authors_email), que AuthorServiceImpl traduce a email duplicado
+@Component
+@Slf4j
+public class EmailBloomFilter {
+
+    private final AuthorRepository authorRepository;
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashFunctions;
+    private final long deltaOverlap;
+    private final Counter definiteMisses;
+    private final Counter possibleHits;
+
+    // Mientras no se haya cargado, toda consulta se considera un posible acierto
+    private volatile boolean ready = false;
+    private volatile LocalDateTime asOf;
+
+    public EmailBloomFilter(AuthorRepository authorRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${authors.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                            @Value("${authors.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                            @Value("${authors.email-filter.delta-overlap:5000}") long deltaOverlap) {
+        this.authorRepository = authorRepository;
+        this.deltaOverlap = deltaOverlap;
+
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+
+        this.definiteMisses = Counter.builder("authors.email.filter.checks")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.possibleHits = Counter.builder("authors.email.filter.checks")
+                .tag("result", "possible-hit")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long start = System.currentTimeMillis();
+        LocalDateTime loadedAsOf = LocalDateTime.now();
+        AtomicLong count = new AtomicLong();
+        try (Stream<String> emails = authorRepository.streamAllEmails()) {
+            emails.forEach(email -> {
+                put(email);
+                count.incrementAndGet();
+            });
+        }
+        asOf = loadedAsOf;
+        ready = true;
+        log.info("Email filter loaded with {} emails in {} ms ({} bits, {} hash functions)",
+                count.get(), System.currentTimeMillis() - start, bitCount, hashFunctions);
+    }
+
+    // Mismo esquema que el índice de autocompletado: deltas por updated_at con solape. Un filtro de Bloom
+    // no admite borrados, así que los emails que dejan de usarse solo cuestan alguna consulta de más
+    @Scheduled(fixedDelayString = "${authors.email-filter.refresh-interval:30000}",
+            initialDelayString = "${authors.email-filter.refresh-interval:30000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime since = asOf.minus(Duration.ofMillis(deltaOverlap));
+        LocalDateTime refreshedAsOf = LocalDateTime.now();
+        AtomicLong count = new AtomicLong();
+        try (Stream<String> emails = authorRepository.streamEmailsChangedSince(since)) {
+            emails.forEach(email -> {
+                put(email);
+                count.incrementAndGet();
+            });
+            asOf = refreshedAsOf;
+            if (count.get() > 0) {
+                log.debug("Email filter refreshed with {} changed authors", count.get());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh email filter: {}", e.getMessage());
+        }
+    }
+
+    public void put(String email) {
+        if (email == null) {
+            return;
+        }
+        long hash = hash(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = index(h1 + i * h2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String email) {
+        if (!ready || email == null) {
+            return true;
+        }
+        long hash = hash(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = index(h1 + i * h2);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                definiteMisses.increment();
+                return false;
+            }
+        }
+        possibleHits.increment();
+        return true;
+    }
+
+    private long index(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % bitCount;
+    }
+
+    // FNV-1a de 64 bits sobre los bytes UTF-8 del email, con mezcla final para repartir ambas mitades
+    private static long hash(String email) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : email.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
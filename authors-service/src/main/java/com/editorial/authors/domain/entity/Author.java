@@ -7,9 +7,13 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "authors")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -43,7 +47,11 @@ public class Author extends BaseEntity {
 
     @Override
     public String getDisplayName() {
-        return this.name + " (" + this.authorType.getDescription() + ")";
+        return displayName(this.name, this.authorType);
+    }
+
+    public static String displayName(String name, AuthorType authorType) {
+        return name + " (" + authorType.getDescription() + ")";
     }
 
     public void incrementPublicationsCount() {
@@ -0,0 +1,12 @@
+package com.editorial.authors.domain.repository;
+
+import com.editorial.authors.domain.entity.Author;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface AuthorBatchRepository {
+
+    // Activos e inactivos, igual que findById; los que no existen no aparecen en el resultado
+    List<Author> findAllByIdCached(Collection<Long> ids);
+}
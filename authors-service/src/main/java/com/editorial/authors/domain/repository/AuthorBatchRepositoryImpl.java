@@ -0,0 +1,32 @@
+package com.editorial.authors.domain.repository;
+
+import com.editorial.authors.domain.entity.Author;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+// multiLoad resuelve primero desde la caché de segundo nivel y consulta solo los que faltan
+// con un único IN, a diferencia de findAllById que siempre va a la base de datos
+class AuthorBatchRepositoryImpl implements AuthorBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Author> findAllByIdCached(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Author.class)
+                .withBatchSize(ids.size())
+                .multiLoad(List.copyOf(ids))
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -1,21 +1,39 @@
 package com.editorial.authors.domain.repository;
 
 import com.editorial.authors.domain.entity.Author;
+import com.editorial.authors.domain.entity.AuthorType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
-public interface AuthorRepository extends JpaRepository<Author, Long> {
+public interface AuthorRepository extends JpaRepository<Author, Long>, AuthorBatchRepository {
 
     Optional<Author> findByEmail(String email);
 
+    boolean existsByEmail(String email);
+
+    @Query("SELECT a.email FROM Author a")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "5000"))
+    Stream<String> streamAllEmails();
+
+    @Query("SELECT a.email FROM Author a WHERE a.updatedAt >= :since")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "5000"))
+    Stream<String> streamEmailsChangedSince(@Param("since") LocalDateTime since);
+
     @Query("SELECT a FROM Author a WHERE a.isActive = true")
     Page<Author> findAllActive(Pageable pageable);
 
@@ -23,10 +41,47 @@ public interface AuthorRepository extends JpaRepository<Author, Long> {
     Page<Author> searchByName(@Param("keyword") String keyword, Pageable pageable);
 
     @Query("SELECT a FROM Author a WHERE a.isActive = true AND a.id IN :ids")
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<Author> findAllByIds(@Param("ids") List<Long> ids);
 
     boolean existsByEmailAndIdNot(String email, Long id);
 
     @Query("SELECT COUNT(a) FROM Author a WHERE a.isActive = true")
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     long countActive();
+
+    @Query("SELECT a.id FROM Author a WHERE a.isActive = true")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "10000"))
+    Stream<Long> streamActiveIds();
+
+    @Query("SELECT a.id AS id, a.isActive AS isActive FROM Author a WHERE a.updatedAt >= :since")
+    List<AuthorActivity> findActivityChangedSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT a.id AS id, a.name AS name, a.authorType AS authorType, a.publicationsCount AS publicationsCount, "
+            + "a.isActive AS isActive FROM Author a WHERE a.isActive = true")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "10000"))
+    Stream<AuthorTypeaheadRow> streamActiveForTypeahead();
+
+    @Query("SELECT a.id AS id, a.name AS name, a.authorType AS authorType, a.publicationsCount AS publicationsCount, "
+            + "a.isActive AS isActive FROM Author a WHERE a.updatedAt >= :since")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "10000"))
+    Stream<AuthorTypeaheadRow> streamTypeaheadChangedSince(@Param("since") LocalDateTime since);
+
+    interface AuthorActivity {
+        Long getId();
+
+        Boolean getIsActive();
+    }
+
+    interface AuthorTypeaheadRow {
+        Long getId();
+
+        String getName();
+
+        AuthorType getAuthorType();
+
+        Integer getPublicationsCount();
+
+        Boolean getIsActive();
+    }
 }
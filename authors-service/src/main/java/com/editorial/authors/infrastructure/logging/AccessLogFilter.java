@@ -0,0 +1,168 @@
+package com.editorial.authors.infrastructure.logging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Un registro por petición en el logger ACCESS_LOG, que logback-spring.xml envía a un appender
+// asíncrono acotado. Los errores y las peticiones lentas se registran siempre; el resto según
+// la tasa de muestreo del endpoint (access-log.sampling) o la global (access-log.sample-rate).
+// Los endpoints con presupuesto (access-log.budgets) avisan y se registran siempre que lo superan en
+// sentencias SQL o llamadas remotas: así se detecta un N+1 que vuelva a colarse.
+// El formato del registro es el mismo que en Publications Service, que tiene su propia copia.
+@Component
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS_LOG");
+
+    private final boolean enabled;
+    private final double defaultSampleRate;
+    private final long slowThresholdMillis;
+    private final Map<String, Double> sampleRates;
+    private final Map<String, Budget> budgets;
+    private final MeterRegistry meterRegistry;
+
+    public AccessLogFilter(@Value("${access-log.enabled:true}") boolean enabled,
+                           @Value("${access-log.sample-rate:1.0}") double defaultSampleRate,
+                           @Value("${access-log.slow-threshold:1000}") long slowThresholdMillis,
+                           @Value("${access-log.sampling:}") String sampling,
+                           @Value("${access-log.budgets:}") String budgets,
+                           MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.defaultSampleRate = defaultSampleRate;
+        this.slowThresholdMillis = slowThresholdMillis;
+        this.sampleRates = parseSampleRates(sampling);
+        this.budgets = parseBudgets(budgets);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        RequestTimings timings = RequestTimings.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestTimings.clear();
+            long durationNanos = System.nanoTime() - start;
+            int status = response.getStatus();
+            String endpoint = request.getMethod() + " " + endpointPattern(request);
+            boolean overBudget = exceedsBudget(endpoint, timings);
+            if (overBudget || shouldLog(endpoint, status, durationNanos)) {
+                ACCESS_LOG.info("method={} path={} endpoint=\"{}\" status={} duration_ms={} db_ms={} db_calls={} sql_statements={} remote_ms={} remote_calls={}",
+                        request.getMethod(), request.getRequestURI(), endpoint, status,
+                        millis(durationNanos), millis(timings.getDbNanos()), timings.getDbCalls(),
+                        timings.getSqlStatements(), millis(timings.getRemoteNanos()), timings.getRemoteCalls());
+            }
+        }
+    }
+
+    private boolean exceedsBudget(String endpoint, RequestTimings timings) {
+        Budget budget = budgets.get(endpoint);
+        if (budget == null) {
+            return false;
+        }
+        boolean sqlExceeded = timings.getSqlStatements() > budget.sqlStatements();
+        boolean remoteExceeded = budget.remoteCalls() >= 0 && timings.getRemoteCalls() > budget.remoteCalls();
+        if (sqlExceeded) {
+            budgetExceeded(endpoint, "sql");
+        }
+        if (remoteExceeded) {
+            budgetExceeded(endpoint, "remote");
+        }
+        if (sqlExceeded || remoteExceeded) {
+            log.warn("Request budget exceeded for {}: {} SQL statements (budget {}), {} remote calls (budget {})",
+                    endpoint, timings.getSqlStatements(), budget.sqlStatements(), timings.getRemoteCalls(),
+                    budget.remoteCalls() >= 0 ? budget.remoteCalls() : "none");
+            return true;
+        }
+        return false;
+    }
+
+    private void budgetExceeded(String endpoint, String resource) {
+        Counter.builder("authors.request.budget.exceeded")
+                .description("Requests that issued more SQL statements or remote calls than their endpoint budget")
+                .tag("endpoint", endpoint)
+                .tag("resource", resource)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private boolean shouldLog(String endpoint, int status, long durationNanos) {
+        if (status >= 500 || durationNanos >= slowThresholdMillis * 1_000_000) {
+            return true;
+        }
+        double rate = sampleRates.getOrDefault(endpoint, defaultSampleRate);
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private static String endpointPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+
+    // Formato: "GET /api/v1/publications/{id}=0.1,GET /api/v1/publications=0.5"
+    private static Map<String, Double> parseSampleRates(String sampling) {
+        Map<String, Double> rates = new HashMap<>();
+        if (sampling == null || sampling.isBlank()) {
+            return rates;
+        }
+        for (String entry : sampling.split(",")) {
+            int separator = entry.lastIndexOf('=');
+            if (separator > 0) {
+                rates.put(entry.substring(0, separator).trim(), Double.parseDouble(entry.substring(separator + 1).trim()));
+            }
+        }
+        return rates;
+    }
+
+    // Formato: "GET /api/v1/publications=2:1" (sentencias SQL y, opcionalmente, llamadas remotas).
+    // StatementCounter lo reutiliza en los tests para comprobar los mismos presupuestos
+    static Map<String, Budget> parseBudgets(String budgets) {
+        Map<String, Budget> parsed = new HashMap<>();
+        if (budgets == null || budgets.isBlank()) {
+            return parsed;
+        }
+        for (String entry : budgets.split(",")) {
+            int separator = entry.lastIndexOf('=');
+            if (separator > 0) {
+                String[] limits = entry.substring(separator + 1).trim().split(":");
+                parsed.put(entry.substring(0, separator).trim(), new Budget(Integer.parseInt(limits[0].trim()),
+                        limits.length > 1 ? Integer.parseInt(limits[1].trim()) : -1));
+            }
+        }
+        return parsed;
+    }
+
+    record Budget(int sqlStatements, int remoteCalls) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.editorial.authors.infrastructure.logging;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+// Mide el tiempo pasado en los repositorios de Spring Data durante la petición. La copia de
+// Publications Service emite además un evento JFR por llamada
+@Aspect
+@Component
+public class RepositoryTimingAspect {
+
+    @Around("target(org.springframework.data.repository.Repository)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            RequestTimings.recordDb(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.editorial.authors.infrastructure.logging;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+// Tiempos acumulados por petición (base de datos y, si las hubiera, llamadas remotas) y sentencias SQL
+// ejecutadas, para el access log.
+// Solo se registra en el hilo que atiende la petición (o con recordOnBehalfOf); fuera de una petición no hace nada.
+// Publications Service tiene su propia versión, con las llamadas a Authors Service (ver ARQUITECTURA.md, Access Log).
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private long dbNanos;
+    private int dbCalls;
+    private int sqlStatements;
+    private long remoteNanos;
+    private int remoteCalls;
+
+    private RequestTimings() {
+    }
+
+    static RequestTimings start() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    // Trabajo que un hilo auxiliar hace en nombre de varias peticiones (AuthorLookupBatcher): se mide en ese
+    // hilo y se suma completo a cada petición que lo esperaba. Hay que llamarlo antes de liberar a esas
+    // peticiones, que siguen escribiendo en sus RequestTimings al despertar
+    public static <T> T recordOnBehalfOf(Collection<RequestTimings> requests, Supplier<T> work) {
+        RequestTimings previous = CURRENT.get();
+        RequestTimings timings = start();
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+            for (RequestTimings request : requests) {
+                request.add(timings);
+            }
+        }
+    }
+
+    public static void recordDb(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.dbNanos += nanos;
+            timings.dbCalls++;
+        }
+    }
+
+    public static void recordStatement() {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.sqlStatements++;
+        }
+    }
+
+    public static void recordRemote(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.remoteNanos += nanos;
+            timings.remoteCalls++;
+        }
+    }
+
+    private void add(RequestTimings other) {
+        dbNanos += other.dbNanos;
+        dbCalls += other.dbCalls;
+        sqlStatements += other.sqlStatements;
+        remoteNanos += other.remoteNanos;
+        remoteCalls += other.remoteCalls;
+    }
+
+    public long getDbNanos() {
+        return dbNanos;
+    }
+
+    public int getDbCalls() {
+        return dbCalls;
+    }
+
+    public int getSqlStatements() {
+        return sqlStatements;
+    }
+
+    public long getRemoteNanos() {
+        return remoteNanos;
+    }
+
+    public int getRemoteCalls() {
+        return remoteCalls;
+    }
+}
@@ -0,0 +1,14 @@
+package com.editorial.authors.infrastructure.logging;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Cuenta las sentencias SQL que Hibernate prepara durante la petición; no modifica el SQL.
+// Igual que en Publications Service, que tiene su propia copia
+public class StatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestTimings.recordStatement();
+        return sql;
+    }
+}
@@ -0,0 +1,160 @@
+package com.editorial.authors.infrastructure.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Control de admisión por cliente antes de llegar al controlador: si el cubo de la categoría
+// está vacío se responde 429 con Retry-After sin tocar la base de datos. Va detrás de
+// AccessLogFilter para que los rechazos también queden en el access log.
+// Publications Service tiene su propia copia (sin módulo común, ver ARQUITECTURA.md); aquí solo cambia
+// la exención de las llamadas internas con X-Internal-Token.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/v1/authors";
+    private static final String INTERNAL_TOKEN_HEADER = "X-Internal-Token";
+
+    private final boolean enabled;
+    private final boolean trustForwardedFor;
+    private final byte[] internalToken;
+    private final Map<RateLimitCategory, RateLimitCategory.Limit> limits = new EnumMap<>(RateLimitCategory.class);
+    private final Map<RateLimitCategory, Counter> allowedCounters = new EnumMap<>(RateLimitCategory.class);
+    private final Map<RateLimitCategory, Counter> rejectedCounters = new EnumMap<>(RateLimitCategory.class);
+    private final Cache<BucketKey, TokenBucket> buckets;
+
+    public RateLimitFilter(MeterRegistry meterRegistry,
+                           @Value("${rate-limit.enabled:true}") boolean enabled,
+                           @Value("${rate-limit.trust-forwarded-for:false}") boolean trustForwardedFor,
+                           @Value("${rate-limit.internal-token:}") String internalToken,
+                           @Value("${rate-limit.max-clients:100000}") long maxClients,
+                           @Value("${rate-limit.idle-expiry:600000}") long idleExpiry,
+                           @Value("${rate-limit.write.capacity:20}") long writeCapacity,
+                           @Value("${rate-limit.write.refill-per-second:5}") double writeRefill,
+                           @Value("${rate-limit.list.capacity:100}") long listCapacity,
+                           @Value("${rate-limit.list.refill-per-second:50}") double listRefill,
+                           @Value("${rate-limit.search.capacity:20}") long searchCapacity,
+                           @Value("${rate-limit.search.refill-per-second:10}") double searchRefill,
+                           @Value("${rate-limit.stats.capacity:30}") long statsCapacity,
+                           @Value("${rate-limit.stats.refill-per-second:10}") double statsRefill) {
+        this.enabled = enabled;
+        this.trustForwardedFor = trustForwardedFor;
+        this.internalToken = internalToken.getBytes(StandardCharsets.UTF_8);
+        limits.put(RateLimitCategory.WRITE, new RateLimitCategory.Limit(writeCapacity, writeRefill));
+        limits.put(RateLimitCategory.LIST, new RateLimitCategory.Limit(listCapacity, listRefill));
+        limits.put(RateLimitCategory.SEARCH, new RateLimitCategory.Limit(searchCapacity, searchRefill));
+        limits.put(RateLimitCategory.STATS, new RateLimitCategory.Limit(statsCapacity, statsRefill));
+
+        // Un cubo inactivo más tiempo del que tarda en rellenarse está lleno: descartarlo no cambia nada
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(Duration.ofMillis(idleExpiry))
+                .build();
+
+        for (RateLimitCategory category : RateLimitCategory.values()) {
+            allowedCounters.put(category, Counter.builder("authors.ratelimit.requests")
+                    .description("Requests evaluated by the rate limiter")
+                    .tag("category", category.name())
+                    .tag("result", "allowed")
+                    .register(meterRegistry));
+            rejectedCounters.put(category, Counter.builder("authors.ratelimit.requests")
+                    .description("Requests evaluated by the rate limiter")
+                    .tag("category", category.name())
+                    .tag("result", "rejected")
+                    .register(meterRegistry));
+        }
+        Gauge.builder("authors.ratelimit.clients", buckets, Cache::estimatedSize)
+                .description("Client buckets currently tracked by the rate limiter")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith(API_PREFIX) || isInternal(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RateLimitCategory category = classify(request);
+        String client = clientId(request);
+        TokenBucket bucket = buckets.get(new BucketKey(client, category), key -> new TokenBucket(limits.get(category)));
+
+        long waitNanos = bucket.tryAcquire();
+        if (waitNanos == 0) {
+            allowedCounters.get(category).increment();
+            chain.doFilter(request, response);
+            return;
+        }
+
+        rejectedCounters.get(category).increment();
+        long retryAfterSeconds = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+        log.debug("Rate limit exceeded for client {} on {} {} ({}), retry after {} s",
+                client, request.getMethod(), request.getRequestURI(), category, retryAfterSeconds);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"Too many requests, retry after " + retryAfterSeconds + " seconds\"}");
+    }
+
+    private static RateLimitCategory classify(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return RateLimitCategory.WRITE;
+        }
+        String path = request.getRequestURI().substring(API_PREFIX.length());
+        if (path.startsWith("/search")) {
+            return RateLimitCategory.SEARCH;
+        }
+        if (path.startsWith("/stats")) {
+            return RateLimitCategory.STATS;
+        }
+        return RateLimitCategory.LIST;
+    }
+
+    // Publications Service se identifica con el token interno compartido y no consume cuota.
+    // Comparación en tiempo constante para no filtrar el token por tiempos de respuesta
+    private boolean isInternal(HttpServletRequest request) {
+        String token = request.getHeader(INTERNAL_TOKEN_HEADER);
+        return internalToken.length > 0 && token != null
+                && MessageDigest.isEqual(internalToken, token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Detrás de un proxy de confianza el cliente real es el primer salto de X-Forwarded-For
+    private String clientId(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                int comma = forwardedFor.indexOf(',');
+                return (comma > 0 ? forwardedFor.substring(0, comma) : forwardedFor).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private record BucketKey(String client, RateLimitCategory category) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.editorial.authors.infrastructure.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Token bucket sin locks (GCRA): en lugar de contar tokens se guarda el instante teórico en que
+// el cubo volverá a estar lleno, y cada petición lo adelanta un intervalo con un único CAS.
+// Idéntico al de Publications Service: un cambio aquí se replica allí.
+final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(RateLimitCategory.Limit limit) {
+        this.emissionIntervalNanos = (long) (1_000_000_000L / limit.refillPerSecond());
+        this.burstNanos = emissionIntervalNanos * limit.capacity();
+        this.theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    // 0 si se admite la petición; si no, los nanosegundos hasta que haya un token disponible
+    long tryAcquire() {
+        while (true) {
+            long now = System.nanoTime();
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + emissionIntervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,488 @@
+package com.editorial.authors.infrastructure.typeahead;
+
+import com.editorial.authors.domain.entity.AuthorType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+// Burst trie de los tokens normalizados de los nombres de autor. Un nodo empieza como cubo: una lista de
+// (autor, posición del token) para todos los tokens con su prefijo; al pasar de BUCKET_SIZE se expande en
+// hijos por carácter y se queda con los autores cuyo token termina justo en él. Así los tokens únicos
+// (apellidos raros, nombres con códigos) no crean una cadena de nodos por carácter.
+// Los nodos expandidos con más de cacheThreshold entradas guardan los mejores cacheCapacity autores
+// de su subárbol: un prefijo corto se responde sin recorrer miles de entradas.
+// No es thread-safe: AuthorTypeaheadIndex serializa las escrituras con un lock.
+final class AuthorPrefixTrie {
+
+    // Más publicaciones primero; a igualdad, orden alfabético del nombre normalizado y por ID
+    static final Comparator<Entry> RANKING = Comparator.comparingInt(Entry::publications).reversed()
+            .thenComparing(Entry::folded)
+            .thenComparingLong(Entry::id);
+
+    private static final int BUCKET_SIZE = 32;
+    private static final char[] NO_LABELS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+    private static final int[] NO_OFFSETS = new int[0];
+
+    private final Node root = new Node();
+    private final int cacheCapacity;
+    private final int cacheThreshold;
+    private final int maxScan;
+    private int nodes = 1;
+
+    AuthorPrefixTrie(int cacheCapacity, int cacheThreshold, int maxScan) {
+        this.cacheCapacity = cacheCapacity;
+        this.cacheThreshold = Math.max(cacheThreshold, Math.max(cacheCapacity, BUCKET_SIZE));
+        this.maxScan = maxScan;
+        this.root.burst();
+    }
+
+    // Alta durante la carga inicial: sin cachés, que se calculan una sola vez al final con buildCaches
+    void add(Entry entry) {
+        for (int offset : entry.tokenOffsets()) {
+            addToken(entry, offset, null);
+        }
+    }
+
+    void buildCaches() {
+        buildCaches(root);
+    }
+
+    void insert(Entry entry) {
+        List<Set<Node>> touched = new ArrayList<>();
+        for (int offset : entry.tokenOffsets()) {
+            addToken(entry, offset, touched);
+        }
+        // De los nodos más profundos hacia la raíz, para reconstruir cada caché a partir de las de sus hijos
+        for (int depth = touched.size() - 1; depth > 0; depth--) {
+            for (Node node : touched.get(depth)) {
+                if (node.top != null) {
+                    node.top.offer(entry);
+                } else if (node.expanded && node.size > cacheThreshold) {
+                    rebuildTop(node);
+                }
+            }
+        }
+    }
+
+    void remove(Entry entry) {
+        List<Set<Node>> touched = new ArrayList<>();
+        for (int offset : entry.tokenOffsets()) {
+            removeToken(entry, offset, touched);
+        }
+        for (int depth = touched.size() - 1; depth > 0; depth--) {
+            for (Node node : touched.get(depth)) {
+                if (node.top == null || node.size == 0) {
+                    continue;
+                }
+                // Histéresis: la caché se descarta a la mitad del umbral para no reconstruirla en cada alta/baja
+                if (node.size < cacheThreshold / 2) {
+                    node.top = null;
+                } else if (node.top.contains(entry)) {
+                    rebuildTop(node);
+                }
+            }
+        }
+    }
+
+    // Sustituye una entrada por otra con el mismo nombre que no baja en el ranking (p. ej. cambia el email)
+    // sin reconstruir las cachés de los prefijos
+    void replace(Entry previous, Entry current) {
+        for (int offset : current.tokenOffsets()) {
+            Node[] path = path(previous, offset);
+            if (path == null) {
+                continue;
+            }
+            path[path.length - 1].replace(previous, current);
+            for (int i = 1; i < path.length; i++) {
+                TopCollector top = path[i].top;
+                if (top != null) {
+                    top.remove(previous);
+                    top.offer(current);
+                }
+            }
+        }
+    }
+
+    // Los limit mejores autores cuyo nombre tiene, para cada prefijo de la consulta, un token que empieza por él.
+    // Se parte del prefijo más selectivo; si su caché no basta se recorre su subárbol hasta maxScan entradas
+    List<Entry> search(String[] prefixes, int limit) {
+        Node pivot = null;
+        boolean partial = false;
+        for (String prefix : prefixes) {
+            Node node = root;
+            int depth = 0;
+            while (depth < prefix.length() && node.expanded) {
+                node = node.child(prefix.charAt(depth++));
+                if (node == null) {
+                    return List.of();
+                }
+            }
+            if (pivot == null || node.size < pivot.size) {
+                pivot = node;
+                // Un cubo alcanzado antes de consumir el prefijo contiene también tokens que no empiezan por él
+                partial = depth < prefix.length();
+            }
+        }
+        if (pivot == null || pivot == root) {
+            return List.of();
+        }
+
+        String[] filter = prefixes.length > 1 || partial ? prefixes : null;
+        TopCollector results = new TopCollector(limit);
+        if (pivot.top != null) {
+            for (Entry entry : pivot.top.entries()) {
+                if (filter == null || entry.matchesAll(filter)) {
+                    results.offer(entry);
+                }
+            }
+            // La caché contiene exactamente los mejores del subárbol, así que sin filtro ya es el resultado
+            if (filter == null || results.isFull()) {
+                return results.entries();
+            }
+            results = new TopCollector(limit);
+        }
+        collect(pivot, filter, results, new int[]{maxScan});
+        return results.entries();
+    }
+
+    int nodeCount() {
+        return nodes;
+    }
+
+    private void addToken(Entry entry, int offset, List<Set<Node>> touched) {
+        int length = entry.tokenLength(offset);
+        Node node = root;
+        for (int depth = 0; ; depth++) {
+            node.size++;
+            if (touched != null) {
+                touch(touched, depth, node);
+            }
+            if (!node.expanded) {
+                node.add(entry, offset);
+                if (node.count > BUCKET_SIZE) {
+                    burst(node, depth);
+                }
+                return;
+            }
+            if (depth == length) {
+                node.add(entry, offset);
+                return;
+            }
+            node = childOrCreate(node, entry.folded().charAt(offset + depth));
+        }
+    }
+
+    private void removeToken(Entry entry, int offset, List<Set<Node>> touched) {
+        Node[] path = path(entry, offset);
+        if (path == null || !path[path.length - 1].remove(entry)) {
+            return;
+        }
+        for (int depth = 0; depth < path.length; depth++) {
+            path[depth].size--;
+            touch(touched, depth, path[depth]);
+        }
+        // Poda de las ramas que se quedan vacías
+        for (int depth = path.length - 1; depth > 0 && path[depth].size == 0; depth--) {
+            path[depth - 1].removeChild(entry.folded().charAt(offset + depth - 1));
+            nodes--;
+        }
+    }
+
+    // Nodos desde la raíz hasta el cubo o el nodo expandido donde está guardado el token
+    private Node[] path(Entry entry, int offset) {
+        int length = entry.tokenLength(offset);
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        for (int depth = 0; depth < length && node.expanded; depth++) {
+            node = node.child(entry.folded().charAt(offset + depth));
+            if (node == null) {
+                return null;
+            }
+            path.add(node);
+        }
+        return path.toArray(Node[]::new);
+    }
+
+    // Reparte el cubo entre hijos por el siguiente carácter; los hijos que siguen llenos se expanden también
+    private void burst(Node node, int depth) {
+        Entry[] entries = node.entries;
+        int[] offsets = node.offsets;
+        int count = node.count;
+        node.burst();
+        for (int i = 0; i < count; i++) {
+            Entry entry = entries[i];
+            int offset = offsets[i];
+            if (entry.tokenLength(offset) == depth) {
+                node.add(entry, offset);
+            } else {
+                Node child = childOrCreate(node, entry.folded().charAt(offset + depth));
+                child.size++;
+                child.add(entry, offset);
+            }
+        }
+        for (Node child : node.children) {
+            if (!child.expanded && child.count > BUCKET_SIZE) {
+                burst(child, depth + 1);
+            }
+        }
+    }
+
+    private Node childOrCreate(Node node, char label) {
+        Node child = node.child(label);
+        if (child == null) {
+            child = node.addChild(label);
+            nodes++;
+        }
+        return child;
+    }
+
+    private void buildCaches(Node node) {
+        for (Node child : node.children) {
+            buildCaches(child);
+        }
+        if (node != root && node.expanded && node.size > cacheThreshold) {
+            rebuildTop(node);
+        }
+    }
+
+    // Los mejores del subárbol están entre las entradas del propio nodo y los mejores de cada hijo:
+    // solo se recorren enteros los hijos pequeños, que no tienen caché
+    private void rebuildTop(Node node) {
+        TopCollector top = new TopCollector(cacheCapacity);
+        for (int i = 0; i < node.count; i++) {
+            top.offer(node.entries[i]);
+        }
+        for (Node child : node.children) {
+            if (child.top != null) {
+                child.top.entries().forEach(top::offer);
+            } else {
+                collect(child, null, top, new int[]{Integer.MAX_VALUE});
+            }
+        }
+        node.top = top;
+    }
+
+    private void collect(Node node, String[] filter, TopCollector into, int[] budget) {
+        for (int i = 0; i < node.count && budget[0] > 0; i++, budget[0]--) {
+            Entry entry = node.entries[i];
+            if (filter == null || entry.matchesAll(filter)) {
+                into.offer(entry);
+            }
+        }
+        for (int i = 0; i < node.children.length && budget[0] > 0; i++) {
+            collect(node.children[i], filter, into, budget);
+        }
+    }
+
+    private static void touch(List<Set<Node>> touched, int depth, Node node) {
+        while (touched.size() <= depth) {
+            touched.add(Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+        touched.get(depth).add(node);
+    }
+
+    // folded es el nombre normalizado con los tokens separados por un espacio; los tokens no se guardan
+    // aparte, cada entrada del trie apunta a su posición dentro de folded
+    record Entry(long id, String name, AuthorType authorType, int publications, String folded) {
+
+        private int[] tokenOffsets() {
+            int[] offsets = new int[8];
+            int count = 0;
+            for (int offset = 0; offset < folded.length(); offset += tokenLength(offset) + 1) {
+                if (!isRepeated(offsets, count, offset)) {
+                    if (count == offsets.length) {
+                        offsets = Arrays.copyOf(offsets, count * 2);
+                    }
+                    offsets[count++] = offset;
+                }
+            }
+            return Arrays.copyOf(offsets, count);
+        }
+
+        private int tokenLength(int offset) {
+            int end = folded.indexOf(' ', offset);
+            return (end < 0 ? folded.length() : end) - offset;
+        }
+
+        private boolean isRepeated(int[] offsets, int count, int offset) {
+            int length = tokenLength(offset);
+            for (int i = 0; i < count; i++) {
+                if (tokenLength(offsets[i]) == length && folded.regionMatches(offsets[i], folded, offset, length)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean matchesAll(String[] prefixes) {
+            for (String prefix : prefixes) {
+                if (!startsAnyWord(prefix)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean startsAnyWord(String prefix) {
+            for (int from = folded.indexOf(prefix); from >= 0; from = folded.indexOf(prefix, from + 1)) {
+                if (from == 0 || folded.charAt(from - 1) == ' ') {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    // Un cubo guarda cada entrada con la posición de su token; un nodo expandido, solo los autores cuyo token
+    // termina en él. Los hijos van en arrays ordenados por carácter (búsqueda binaria)
+    private static final class Node {
+
+        private boolean expanded;
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private Entry[] entries = NO_ENTRIES;
+        private int[] offsets = NO_OFFSETS;
+        private int count;
+        private int size;
+        private TopCollector top;
+
+        private void burst() {
+            expanded = true;
+            entries = NO_ENTRIES;
+            offsets = null;
+            count = 0;
+        }
+
+        private Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node addChild(char label) {
+            int insertAt = -Arrays.binarySearch(labels, label) - 1;
+            Node child = new Node();
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newLabels[insertAt] = label;
+            newChildren[insertAt] = child;
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            labels = newLabels;
+            children = newChildren;
+            return child;
+        }
+
+        private void removeChild(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index < 0) {
+                return;
+            }
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(labels, index + 1, newLabels, index, labels.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            labels = newLabels.length == 0 ? NO_LABELS : newLabels;
+            children = newChildren.length == 0 ? NO_CHILDREN : newChildren;
+        }
+
+        private void add(Entry entry, int offset) {
+            if (count == entries.length) {
+                int capacity = Math.max(2, count + (count >> 1));
+                entries = Arrays.copyOf(entries, capacity);
+                if (offsets != null) {
+                    offsets = Arrays.copyOf(offsets, capacity);
+                }
+            }
+            entries[count] = entry;
+            if (offsets != null) {
+                offsets[count] = offset;
+            }
+            count++;
+        }
+
+        private boolean remove(Entry entry) {
+            for (int i = 0; i < count; i++) {
+                if (entries[i] == entry) {
+                    count--;
+                    entries[i] = entries[count];
+                    entries[count] = null;
+                    if (offsets != null) {
+                        offsets[i] = offsets[count];
+                    }
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void replace(Entry previous, Entry current) {
+            for (int i = 0; i < count; i++) {
+                if (entries[i] == previous) {
+                    entries[i] = current;
+                    return;
+                }
+            }
+        }
+    }
+
+    // Los mejores capacity autores según RANKING, ordenados y sin duplicados (un autor puede aparecer
+    // varias veces en un subárbol si dos de sus tokens comparten prefijo)
+    static final class TopCollector {
+
+        private final Entry[] entries;
+        private int count;
+
+        TopCollector(int capacity) {
+            this.entries = new Entry[capacity];
+        }
+
+        void offer(Entry entry) {
+            int index = Arrays.binarySearch(entries, 0, count, entry, RANKING);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            if (insertAt >= entries.length) {
+                return;
+            }
+            int moved = Math.min(count, entries.length - 1) - insertAt;
+            System.arraycopy(entries, insertAt, entries, insertAt + 1, moved);
+            entries[insertAt] = entry;
+            count = Math.min(count + 1, entries.length);
+        }
+
+        boolean contains(Entry entry) {
+            return Arrays.binarySearch(entries, 0, count, entry, RANKING) >= 0;
+        }
+
+        boolean remove(Entry entry) {
+            int index = Arrays.binarySearch(entries, 0, count, entry, RANKING);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(entries, index + 1, entries, index, count - index - 1);
+            entries[--count] = null;
+            return true;
+        }
+
+        boolean isFull() {
+            return count == entries.length;
+        }
+
+        List<Entry> entries() {
+            return new ArrayList<>(Arrays.asList(entries).subList(0, count));
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.editorial.authors.infrastructure.typeahead;
+
+import com.editorial.authors.domain.entity.Author;
+import com.editorial.authors.domain.entity.AuthorType;
+import com.editorial.authors.domain.repository.AuthorRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// Índice en memoria para el autocompletado de autores: trie de los tokens del nombre (sin tildes y en
+// minúsculas) de los autores activos. Se carga al arrancar, se actualiza tras el commit de cada alta,
+// modificación o baja y un delta periódico recoge los cambios hechos por otras réplicas.
+// Las consultas no tocan la base de datos.
+@Component
+@Slf4j
+public class AuthorTypeaheadIndex {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final AuthorRepository authorRepository;
+    private final boolean enabled;
+    private final int maxResults;
+    private final int cacheThreshold;
+    private final int maxScan;
+    private final int maxTokenLength;
+    private final long deltaOverlap;
+    private final Timer searchTimer;
+
+    // Escrituras poco frecuentes frente a una consulta por pulsación: las lecturas solo comparten el read lock
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private AuthorPrefixTrie trie;
+    private Map<Long, AuthorPrefixTrie.Entry> entriesById = new HashMap<>();
+
+    // Cambios recibidos mientras se construye el índice inicial; se reaplican sobre él al publicarlo
+    private List<Runnable> pendingDuringLoad;
+    private volatile boolean ready = false;
+    private volatile LocalDateTime asOf;
+
+    public AuthorTypeaheadIndex(AuthorRepository authorRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${authors.typeahead.enabled:true}") boolean enabled,
+                                @Value("${authors.typeahead.max-results:20}") int maxResults,
+                                @Value("${authors.typeahead.cache-threshold:256}") int cacheThreshold,
+                                @Value("${authors.typeahead.max-scan:50000}") int maxScan,
+                                @Value("${authors.typeahead.max-token-length:24}") int maxTokenLength,
+                                @Value("${authors.typeahead.delta-overlap:5000}") long deltaOverlap) {
+        this.authorRepository = authorRepository;
+        this.enabled = enabled;
+        this.maxResults = maxResults;
+        this.cacheThreshold = cacheThreshold;
+        this.maxScan = maxScan;
+        this.maxTokenLength = maxTokenLength;
+        this.deltaOverlap = deltaOverlap;
+        this.trie = newTrie();
+
+        this.searchTimer = Timer.builder("authors.typeahead.search")
+                .description("Typeahead lookups served from the in-memory index")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("authors.typeahead.authors", this, index -> index.read(() -> index.entriesById.size()))
+                .register(meterRegistry);
+        Gauge.builder("authors.typeahead.nodes", this, index -> index.read(() -> index.trie.nodeCount()))
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        LocalDateTime loadedAsOf = LocalDateTime.now();
+        write(() -> pendingDuringLoad = new ArrayList<>());
+
+        AuthorPrefixTrie loaded = newTrie();
+        Map<Long, AuthorPrefixTrie.Entry> loadedById = new HashMap<>();
+        try (Stream<AuthorRepository.AuthorTypeaheadRow> rows = authorRepository.streamActiveForTypeahead()) {
+            rows.forEach(row -> {
+                AuthorPrefixTrie.Entry entry = toEntry(row.getId(), row.getName(), row.getAuthorType(), row.getPublicationsCount());
+                if (entry != null) {
+                    loaded.add(entry);
+                    loadedById.put(entry.id(), entry);
+                }
+            });
+        }
+        loaded.buildCaches();
+
+        write(() -> {
+            trie = loaded;
+            entriesById = loadedById;
+            pendingDuringLoad.forEach(Runnable::run);
+            pendingDuringLoad = null;
+        });
+        asOf = loadedAsOf;
+        ready = true;
+        log.info("Typeahead index loaded with {} authors ({} trie nodes) in {} ms",
+                loadedById.size(), loaded.nodeCount(), System.currentTimeMillis() - start);
+    }
+
+    // Deltas por updated_at con solape, igual que el índice de IDs activos de Publications Service:
+    // recoge los cambios de otras réplicas y los escritos fuera de la API. Se leen en streaming para
+    // que una actualización masiva no cargue todas las filas a la vez
+    @Scheduled(fixedDelayString = "${authors.typeahead.refresh-interval:30000}",
+            initialDelayString = "${authors.typeahead.refresh-interval:30000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        if (!enabled || !ready) {
+            return;
+        }
+        LocalDateTime since = asOf.minus(Duration.ofMillis(deltaOverlap));
+        LocalDateTime refreshedAsOf = LocalDateTime.now();
+        AtomicLong changed = new AtomicLong();
+        try (Stream<AuthorRepository.AuthorTypeaheadRow> rows = authorRepository.streamTypeaheadChangedSince(since)) {
+            rows.forEach(row -> {
+                if (Boolean.TRUE.equals(row.getIsActive())) {
+                    apply(row.getId(), row.getName(), row.getAuthorType(), row.getPublicationsCount());
+                } else {
+                    apply(row.getId(), null, null, null);
+                }
+                changed.incrementAndGet();
+            });
+            asOf = refreshedAsOf;
+            if (changed.get() > 0) {
+                log.debug("Typeahead index refreshed with {} changed authors", changed.get());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh typeahead index: {}", e.getMessage());
+        }
+    }
+
+    // Se aplica tras el commit para no indexar cambios que acaben revirtiéndose
+    public void put(Author author) {
+        if (!enabled) {
+            return;
+        }
+        Long id = author.getId();
+        if (Boolean.TRUE.equals(author.getIsActive())) {
+            String name = author.getName();
+            AuthorType authorType = author.getAuthorType();
+            Integer publications = author.getPublicationsCount();
+            afterCommit(() -> apply(id, name, authorType, publications));
+        } else {
+            afterCommit(() -> apply(id, null, null, null));
+        }
+    }
+
+    public void remove(Long authorId) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> apply(authorId, null, null, null));
+    }
+
+    // Hasta limit autores cuyo nombre contiene, para cada palabra de la consulta, una palabra que empieza por ella
+    public List<Suggestion> suggest(String query, int limit) {
+        if (!enabled || !ready) {
+            throw new IllegalStateException("Typeahead index is not available");
+        }
+        String[] prefixes = tokenize(query);
+        if (prefixes.length == 0) {
+            return List.of();
+        }
+        return searchTimer.record(() -> read(() -> trie.search(prefixes, Math.min(limit, maxResults)))).stream()
+                .map(entry -> new Suggestion(entry.id(), entry.name(), entry.authorType()))
+                .toList();
+    }
+
+    public int getMaxResults() {
+        return maxResults;
+    }
+
+    private void apply(Long id, String name, AuthorType authorType, Integer publications) {
+        if (id == null) {
+            return;
+        }
+        AuthorPrefixTrie.Entry entry = name == null ? null : toEntry(id, name, authorType, publications);
+        write(() -> {
+            if (pendingDuringLoad != null) {
+                pendingDuringLoad.add(() -> applyLocked(id, entry));
+            }
+            applyLocked(id, entry);
+        });
+    }
+
+    private void applyLocked(Long id, AuthorPrefixTrie.Entry entry) {
+        AuthorPrefixTrie.Entry previous = entry == null ? entriesById.remove(id) : entriesById.put(id, entry);
+        if (previous == null) {
+            if (entry != null) {
+                trie.insert(entry);
+            }
+        } else if (entry == null) {
+            trie.remove(previous);
+        } else if (previous.folded().equals(entry.folded()) && AuthorPrefixTrie.RANKING.compare(entry, previous) <= 0) {
+            trie.replace(previous, entry);
+        } else {
+            trie.remove(previous);
+            trie.insert(entry);
+        }
+    }
+
+    private AuthorPrefixTrie.Entry toEntry(Long id, String name, AuthorType authorType, Integer publications) {
+        String[] tokens = tokenize(name);
+        if (tokens.length == 0) {
+            return null;
+        }
+        return new AuthorPrefixTrie.Entry(id, name, authorType, publications == null ? 0 : publications,
+                String.join(" ", tokens));
+    }
+
+    // "José  María-Núñez" -> [jose, maria, nunez]; los tokens se recortan a maxTokenLength
+    private String[] tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+        String folded = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return NON_ALPHANUMERIC.splitAsStream(folded.toLowerCase(Locale.ROOT))
+                .filter(token -> !token.isEmpty())
+                .map(token -> token.length() > maxTokenLength ? token.substring(0, maxTokenLength) : token)
+                .toArray(String[]::new);
+    }
+
+    private AuthorPrefixTrie newTrie() {
+        return new AuthorPrefixTrie(maxResults, cacheThreshold, maxScan);
+    }
+
+    private <T> T read(Supplier<T> action) {
+        lock.readLock().lock();
+        try {
+            return action.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    public record Suggestion(long authorId, String name, AuthorType authorType) {
+    }
+}
@@ -1,7 +1,11 @@
 package com.editorial.authors.presentation.controller;
 
 import com.editorial.authors.application.service.IAuthorService;
+import com.editorial.authors.infrastructure.exception.EmailAlreadyExistsException;
+import com.editorial.authors.presentation.dto.AuthorIdChangesDTO;
 import com.editorial.authors.presentation.dto.AuthorResponseDTO;
+import com.editorial.authors.presentation.dto.AuthorSummaryDTO;
+import com.editorial.authors.presentation.dto.AuthorTypeaheadDTO;
 import com.editorial.authors.presentation.dto.CreateAuthorDTO;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
@@ -10,11 +14,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -28,10 +36,13 @@ public class AuthorController {
 
     @PostMapping
     public ResponseEntity<?> createAuthor(@Valid @RequestBody CreateAuthorDTO createAuthorDTO) {
-        log.info("POST /authors - Creating new author: {}", createAuthorDTO.getEmail());
+        log.debug("POST /authors - Creating new author: {}", createAuthorDTO.getEmail());
         try {
             AuthorResponseDTO response = authorService.createAuthor(createAuthorDTO);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (EmailAlreadyExistsException e) {
+            log.warn("Duplicate email creating author: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             log.error("Error creating author: {}", e.getMessage());
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
@@ -40,7 +51,7 @@ public class AuthorController {
 
     @GetMapping("/{id}")
     public ResponseEntity<?> getAuthorById(@PathVariable Long id) {
-        log.info("GET /authors/{} - Fetching author", id);
+        log.debug("GET /authors/{} - Fetching author", id);
         try {
             AuthorResponseDTO response = authorService.getAuthorById(id);
             return ResponseEntity.ok(response);
@@ -50,12 +61,36 @@ public class AuthorController {
         }
     }
 
+    @GetMapping("/{id}/summary")
+    public ResponseEntity<?> getAuthorSummaryById(@PathVariable Long id) {
+        log.debug("GET /authors/{}/summary - Fetching author summary", id);
+        try {
+            AuthorSummaryDTO response = authorService.getAuthorSummaryById(id);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Error fetching author summary: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping("/summaries")
+    public ResponseEntity<?> getAuthorSummariesByIds(@RequestParam List<Long> ids) {
+        log.debug("GET /authors/summaries - Fetching {} author summaries", ids.size());
+        try {
+            List<AuthorSummaryDTO> response = authorService.getAuthorSummariesByIds(ids);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Error fetching author summaries: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @GetMapping
     public ResponseEntity<?> getAllAuthors(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy) {
-        log.info("GET /authors - Fetching all authors, page: {}, size: {}", page, size);
+        log.debug("GET /authors - Fetching all authors, page: {}, size: {}", page, size);
         try {
             Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy).descending());
             Page<AuthorResponseDTO> response = authorService.getAllAuthors(pageable);
@@ -71,7 +106,7 @@ public class AuthorController {
             @RequestParam String keyword,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
-        log.info("GET /authors/search - Searching authors with keyword: {}", keyword);
+        log.debug("GET /authors/search - Searching authors with keyword: {}", keyword);
         try {
             Pageable pageable = PageRequest.of(page, size);
             Page<AuthorResponseDTO> response = authorService.searchAuthors(keyword, pageable);
@@ -82,14 +117,34 @@ public class AuthorController {
         }
     }
 
+    @GetMapping("/typeahead")
+    public ResponseEntity<?> getAuthorSuggestions(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("GET /authors/typeahead - Suggesting authors for: {}", q);
+        try {
+            List<AuthorTypeaheadDTO> response = authorService.getAuthorSuggestions(q, limit);
+            return ResponseEntity.ok(response);
+        } catch (IllegalStateException e) {
+            log.warn("Typeahead index unavailable: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error suggesting authors: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<?> updateAuthor(
             @PathVariable Long id,
             @Valid @RequestBody CreateAuthorDTO updateAuthorDTO) {
-        log.info("PUT /authors/{} - Updating author", id);
+        log.debug("PUT /authors/{} - Updating author", id);
         try {
             AuthorResponseDTO response = authorService.updateAuthor(id, updateAuthorDTO);
             return ResponseEntity.ok(response);
+        } catch (EmailAlreadyExistsException e) {
+            log.warn("Duplicate email updating author {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             log.error("Error updating author: {}", e.getMessage());
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
@@ -98,7 +153,7 @@ public class AuthorController {
 
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteAuthor(@PathVariable Long id) {
-        log.info("DELETE /authors/{} - Deleting author", id);
+        log.debug("DELETE /authors/{} - Deleting author", id);
         try {
             authorService.deleteAuthor(id);
             return ResponseEntity.noContent().build();
@@ -123,6 +178,35 @@ public class AuthorController {
         }
     }
 
+    @GetMapping("/ids/active")
+    public ResponseEntity<?> getActiveAuthorIdsSnapshot() {
+        log.debug("GET /authors/ids/active - Building active author id snapshot");
+        try {
+            LocalDateTime asOf = LocalDateTime.now();
+            byte[] snapshot = authorService.getActiveAuthorIdsSnapshot();
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .header("X-Snapshot-Time", asOf.toString())
+                    .body(snapshot);
+        } catch (Exception e) {
+            log.error("Error building active author id snapshot: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/ids/changes")
+    public ResponseEntity<?> getAuthorIdChanges(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        log.debug("GET /authors/ids/changes - Fetching author id changes since {}", since);
+        try {
+            AuthorIdChangesDTO response = authorService.getAuthorIdChangesSince(since);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Error fetching author id changes: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @GetMapping("/stats/total")
     public ResponseEntity<?> getTotalAuthors() {
         log.debug("GET /authors/stats/total - Getting total authors");
@@ -0,0 +1,21 @@
+package com.editorial.authors.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuthorIdChangesDTO {
+
+    private LocalDateTime asOf;
+
+    private List<Long> activated;
+
+    private List<Long> deactivated;
+}
@@ -0,0 +1,22 @@
+package com.editorial.authors.presentation.dto;
+
+import com.editorial.authors.domain.entity.AuthorType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuthorSummaryDTO {
+
+    private Long id;
+
+    private String name;
+
+    private String email;
+
+    private AuthorType authorType;
+}
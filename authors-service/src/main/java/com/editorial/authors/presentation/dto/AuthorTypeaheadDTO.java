@@ -0,0 +1,17 @@
+package com.editorial.authors.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuthorTypeaheadDTO {
+
+    private Long id;
+
+    private String displayName;
+}
@@ -0,0 +1,17 @@
+-- Esquema tal y como lo generaba ddl-auto=update. En bases de datos existentes
+-- Flyway marca esta versión como baseline (spring.flyway.baseline-on-migrate) y no la ejecuta.
+
+CREATE TABLE IF NOT EXISTS authors (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at         TIMESTAMP(6)  NOT NULL,
+    updated_at         TIMESTAMP(6),
+    is_active          BOOLEAN       NOT NULL,
+    name               VARCHAR(255)  NOT NULL,
+    email              VARCHAR(255)  NOT NULL,
+    bio                VARCHAR(1000),
+    author_type        VARCHAR(255)  NOT NULL,
+    country            VARCHAR(100),
+    phone              VARCHAR(20),
+    publications_count INTEGER,
+    CONSTRAINT uk_authors_email UNIQUE (email)
+);
@@ -0,0 +1,21 @@
+-- Índices ajustados a las consultas de AuthorRepository. Todas las lecturas públicas filtran
+-- por is_active = true, así que los índices de esas consultas son parciales.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- findAllActive (ORDER BY id/created_at), countActive, streamActiveIds (index-only scan)
+CREATE INDEX IF NOT EXISTS idx_authors_active_id
+    ON authors (id) WHERE is_active;
+
+CREATE INDEX IF NOT EXISTS idx_authors_active_created_at
+    ON authors (created_at) WHERE is_active;
+
+-- searchByName: LOWER(name) LIKE '%...%'
+CREATE INDEX IF NOT EXISTS idx_authors_active_name_trgm
+    ON authors USING gin (lower(name) gin_trgm_ops) WHERE is_active;
+
+-- findActivityChangedSince: updated_at >= ? (incluye autores desactivados)
+CREATE INDEX IF NOT EXISTS idx_authors_updated_at
+    ON authors (updated_at);
+
+-- findByEmail, existsByEmail y existsByEmailAndIdNot usan el índice único de email
@@ -0,0 +1,18 @@
+package com.editorial.authors;
+
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// Un único contenedor por JVM: los contextos de Spring cacheados entre clases de test siguen
+// apuntando al mismo puerto. Sin Docker disponible las clases que heredan de aquí se omiten
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresContainerTest {
+
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    static {
+        POSTGRES.start();
+    }
+}
@@ -0,0 +1,82 @@
+package com.editorial.authors.application.service.impl;
+
+import com.editorial.authors.domain.entity.AuthorType;
+import com.editorial.authors.domain.repository.AuthorRepository;
+import com.editorial.authors.presentation.dto.CreateAuthorDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Rendimiento de validateCreateAuthor en un alta masiva de emails nuevos, con y sin filtro de emails.
+// La consulta de unicidad se simula con una espera fija que hace de ida y vuelta a la base de datos:
+// lo que el filtro ahorra son esas idas y vueltas, no CPU
+@Slf4j
+class BulkRegistrationValidationTest {
+
+    private static final int REGISTERED = 200_000;
+    private static final int NEW_AUTHORS = 20_000;
+    private static final long ROUND_TRIP_MICROS = 100;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    void filterSkipsUniquenessQueriesForNewEmails() {
+        List<CreateAuthorDTO> batch = IntStream.range(0, NEW_AUTHORS)
+                .mapToObj(i -> CreateAuthorDTO.builder()
+                        .name("Bulk Author " + i)
+                        .email("bulk" + i + "@example.org")
+                        .authorType(AuthorType.INDIVIDUAL)
+                        .build())
+                .toList();
+
+        Run withoutFilter = validate(batch, false);
+        Run withFilter = validate(batch, true);
+
+        log.info("Bulk registration of {} authors: {} validations/s with {} uniqueness queries without filter, "
+                        + "{} validations/s with {} queries with filter",
+                NEW_AUTHORS, Math.round(withoutFilter.perSecond()), withoutFilter.queries(),
+                Math.round(withFilter.perSecond()), withFilter.queries());
+
+        assertThat(withoutFilter.queries()).isEqualTo(NEW_AUTHORS);
+        assertThat(withFilter.queries()).isLessThanOrEqualTo((long) (NEW_AUTHORS * FALSE_POSITIVE_RATE * 1.25));
+        assertThat(withFilter.perSecond()).isGreaterThan(withoutFilter.perSecond() * 5);
+    }
+
+    // Filtro lleno hasta su capacidad (peor tasa de falsos positivos). Sin cargar trata todo como posible
+    // acierto: equivale a consultar siempre la base de datos
+    private static Run validate(List<CreateAuthorDTO> batch, boolean loadFilter) {
+        AuthorRepository authorRepository = mock(AuthorRepository.class);
+        AtomicLong queries = new AtomicLong();
+        when(authorRepository.streamAllEmails()).thenAnswer(invocation -> IntStream.range(0, REGISTERED)
+                .mapToObj(i -> "author" + i + "@example.com"));
+        when(authorRepository.existsByEmail(anyString())).thenAnswer(invocation -> {
+            queries.incrementAndGet();
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(ROUND_TRIP_MICROS));
+            return false;
+        });
+        EmailBloomFilter filter = new EmailBloomFilter(authorRepository, new SimpleMeterRegistry(),
+                REGISTERED, FALSE_POSITIVE_RATE, 5000);
+        if (loadFilter) {
+            filter.load();
+        }
+        AuthorValidator validator = new AuthorValidator(authorRepository, filter);
+
+        long start = System.nanoTime();
+        batch.forEach(validator::validateCreateAuthor);
+        long elapsedNanos = System.nanoTime() - start;
+        return new Run(queries.get(), batch.size() * 1_000_000_000.0 / elapsedNanos);
+    }
+
+    private record Run(long queries, double perSecond) {
+    }
+}
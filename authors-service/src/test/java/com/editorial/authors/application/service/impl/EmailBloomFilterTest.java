@@ -0,0 +1,75 @@
+package com.editorial.authors.application.service.impl;
+
+import com.editorial.authors.domain.repository.AuthorRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmailBloomFilterTest {
+
+    private static final int PROBES = 200_000;
+
+    // Con el filtro lleno hasta expected-insertions, la tasa observada con emails ausentes no debe
+    // pasar de un 25 % por encima del objetivo (margen para la varianza del muestreo)
+    @ParameterizedTest
+    @CsvSource({"100000, 0.01", "100000, 0.001", "500000, 0.01"})
+    void falsePositiveRateStaysWithinConfiguredTarget(int expectedInsertions, double falsePositiveRate) {
+        List<String> emails = IntStream.range(0, expectedInsertions)
+                .mapToObj(i -> "author" + i + "@example.com")
+                .toList();
+        EmailBloomFilter filter = loadedFilter(emails, expectedInsertions, falsePositiveRate);
+
+        assertThat(emails).allMatch(filter::mightContain);
+
+        long falsePositives = IntStream.range(0, PROBES)
+                .mapToObj(i -> "missing" + i + "@example.org")
+                .filter(filter::mightContain)
+                .count();
+        double observedRate = (double) falsePositives / PROBES;
+
+        assertThat(observedRate)
+                .as("observed false-positive rate for target %s", falsePositiveRate)
+                .isLessThanOrEqualTo(falsePositiveRate * 1.25);
+    }
+
+    // Un alta hecha en otra réplica no pasa por put(): solo el delta periódico la incorpora
+    @Test
+    void refreshAddsEmailsRegisteredElsewhere() {
+        List<String> emails = IntStream.range(0, 10_000)
+                .mapToObj(i -> "author" + i + "@example.com")
+                .toList();
+        AuthorRepository authorRepository = mock(AuthorRepository.class);
+        when(authorRepository.streamAllEmails()).thenAnswer(invocation -> emails.stream());
+        when(authorRepository.streamEmailsChangedSince(any()))
+                .thenAnswer(invocation -> Stream.of("other-replica@example.com"));
+        EmailBloomFilter filter = new EmailBloomFilter(authorRepository, new SimpleMeterRegistry(), 10_000, 0.001, 5000);
+        filter.load();
+        assertThat(filter.mightContain("other-replica@example.com")).isFalse();
+
+        filter.refresh();
+
+        assertThat(filter.mightContain("other-replica@example.com")).isTrue();
+        verify(authorRepository).streamEmailsChangedSince(any(LocalDateTime.class));
+    }
+
+    private static EmailBloomFilter loadedFilter(List<String> emails, long expectedInsertions, double falsePositiveRate) {
+        AuthorRepository authorRepository = mock(AuthorRepository.class);
+        when(authorRepository.streamAllEmails()).thenAnswer(invocation -> emails.stream());
+        EmailBloomFilter filter = new EmailBloomFilter(authorRepository, new SimpleMeterRegistry(),
+                expectedInsertions, falsePositiveRate, 5000);
+        filter.load();
+        return filter;
+    }
+}
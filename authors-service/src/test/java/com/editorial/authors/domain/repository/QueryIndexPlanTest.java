@@ -0,0 +1,98 @@
+package com.editorial.authors.domain.repository;
+
+import com.editorial.authors.PostgresContainerTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+// Comprueba contra el esquema migrado por Flyway que cada consulta caliente de AuthorRepository
+// resuelve por el índice pensado para ella. Las sentencias reproducen el SQL que genera Hibernate
+// para cada método (mismos predicados y orden); si alguien cambia la consulta o el índice sin
+// mantener la forma, el plan deja de nombrar el índice y el test falla.
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryIndexPlanTest extends PostgresContainerTest {
+
+    private static final int AUTHORS = 20_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // @BeforeAll queda fuera de la transacción del test: los datos se confirman para que VACUUM ANALYZE
+    // deje estadísticas y mapa de visibilidad (index-only scans) como en producción, y se borran al
+    // final para no afectar al resto de clases que comparten el contenedor
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("""
+                INSERT INTO authors (created_at, updated_at, is_active, name, email, author_type, publications_count)
+                SELECT now() - g * interval '1 minute', now() - g * interval '1 minute', g % 10 <> 0,
+                       'Author ' || md5(g::text), 'author' || g || '@example.com', 'INDIVIDUAL', g % 50
+                FROM generate_series(1, ?) g
+                """, AUTHORS);
+        jdbcTemplate.execute("VACUUM ANALYZE authors");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.execute("TRUNCATE authors RESTART IDENTITY");
+    }
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                arguments("findAllActive (sortBy=id)",
+                        "SELECT * FROM authors WHERE is_active = true ORDER BY id DESC LIMIT 10",
+                        "idx_authors_active_id"),
+                arguments("findAllActive (sortBy=createdAt)",
+                        "SELECT * FROM authors WHERE is_active = true ORDER BY created_at DESC LIMIT 10",
+                        "idx_authors_active_created_at"),
+                arguments("countActive",
+                        "SELECT count(id) FROM authors WHERE is_active = true",
+                        "idx_authors_active_id"),
+                arguments("streamActiveIds",
+                        "SELECT id FROM authors WHERE is_active = true",
+                        "idx_authors_active_id"),
+                arguments("searchByName",
+                        "SELECT * FROM authors WHERE is_active = true AND lower(name) LIKE lower('%' || 'c4ca4' || '%') "
+                                + "LIMIT 10",
+                        "idx_authors_active_name_trgm"),
+                arguments("findActivityChangedSince",
+                        "SELECT id, is_active FROM authors WHERE updated_at >= now() - interval '1 hour'",
+                        "idx_authors_updated_at"),
+                arguments("streamTypeaheadChangedSince",
+                        "SELECT id, name, author_type, publications_count, is_active FROM authors "
+                                + "WHERE updated_at >= now() - interval '1 hour'",
+                        "idx_authors_updated_at"),
+                arguments("streamEmailsChangedSince",
+                        "SELECT email FROM authors WHERE updated_at >= now() - interval '1 hour'",
+                        "idx_authors_updated_at"),
+                arguments("findByEmail / existsByEmail",
+                        "SELECT * FROM authors WHERE email = 'author42@example.com'",
+                        "uk_authors_email"));
+    }
+
+    // enable_seqscan = off solo penaliza el recorrido secuencial: si el índice no encaja con el
+    // predicado o el orden, el planificador no puede usarlo y el plan lo delata
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueryUsesItsIndex(String repositoryMethod, String sql, String expectedIndex) {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+
+        assertThat(plan)
+                .as("plan for %s", repositoryMethod)
+                .contains(expectedIndex);
+    }
+}
@@ -0,0 +1,66 @@
+package com.editorial.authors.presentation.controller;
+
+import com.editorial.authors.PostgresContainerTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Emails que el filtro de Bloom aún no conoce (escritos por otra réplica o directamente en la base de datos
+// después de cargarlo): la restricción única detecta el duplicado y la API responde igual que la validación
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+class AuthorEmailUniquenessTest extends PostgresContainerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.execute("TRUNCATE authors RESTART IDENTITY");
+    }
+
+    @Test
+    void createWithEmailUnknownToTheFilterIsAConflict() throws Exception {
+        insertBehindTheFilter("elsewhere@example.com");
+
+        mockMvc.perform(post("/api/v1/authors")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Duplicate\",\"email\":\"elsewhere@example.com\",\"authorType\":\"INDIVIDUAL\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value(containsString("Email already exists")));
+    }
+
+    @Test
+    void updateToEmailUnknownToTheFilterIsAConflict() throws Exception {
+        insertBehindTheFilter("elsewhere@example.com");
+        long id = insertBehindTheFilter("mine@example.com");
+
+        mockMvc.perform(put("/api/v1/authors/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Mine\",\"email\":\"elsewhere@example.com\",\"authorType\":\"INDIVIDUAL\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value(containsString("Email already exists")));
+    }
+
+    private long insertBehindTheFilter(String email) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO authors (created_at, updated_at, is_active, name, email, author_type, publications_count)
+                VALUES (now(), now(), true, 'Written elsewhere', ?, 'INDIVIDUAL', 0)
+                RETURNING id
+                """, Long.class, email);
+    }
+}
@@ -0,0 +1,145 @@
+package com.editorial.authors.presentation.controller;
+
+import com.editorial.authors.PostgresContainerTest;
+import com.editorial.authors.infrastructure.logging.RequestTimings;
+import com.editorial.authors.infrastructure.logging.StatementCounter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Cada endpoint, con las cachés frías, dentro de su presupuesto de access-log.budgets. Cada test usa
+// ids distintos para que la caché de segundo nivel que llenan los demás no lo abarate
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AuthorEndpointBudgetTest extends PostgresContainerTest {
+
+    private static final int AUTHORS = 200;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${access-log.budgets}")
+    private String budgets;
+
+    private StatementCounter statementCounter;
+
+    @BeforeAll
+    void seed() {
+        statementCounter = new StatementCounter(budgets);
+        jdbcTemplate.update("""
+                INSERT INTO authors (created_at, updated_at, is_active, name, email, author_type, publications_count)
+                SELECT now(), now(), true, 'Author ' || g, 'author' || g || '@example.com', 'INDIVIDUAL', 0
+                FROM generate_series(1, ?) g
+                """, AUTHORS);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.execute("TRUNCATE authors RESTART IDENTITY");
+    }
+
+    @Test
+    void listingStaysWithinBudget() throws Exception {
+        RequestTimings timings = statementCounter.assertWithinBudget("GET /api/v1/authors",
+                () -> mockMvc.perform(get("/api/v1/authors").param("size", "50"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.content.length()").value(50)));
+
+        // El contador ve las sentencias de Hibernate: un presupuesto que se cumple con 0 no probaría nada
+        assertThat(timings.getSqlStatements()).isPositive();
+    }
+
+    @Test
+    void lookupByIdStaysWithinBudget() throws Exception {
+        statementCounter.assertWithinBudget("GET /api/v1/authors/{id}",
+                () -> mockMvc.perform(get("/api/v1/authors/{id}", 7))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.id").value(7)));
+    }
+
+    @Test
+    void existenceCheckStaysWithinBudget() throws Exception {
+        statementCounter.assertWithinBudget("GET /api/v1/authors/{id}/exists",
+                () -> mockMvc.perform(get("/api/v1/authors/{id}/exists", 8))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.exists").value(true)));
+    }
+
+    @Test
+    void summariesBatchStaysWithinBudget() throws Exception {
+        statementCounter.assertWithinBudget("GET /api/v1/authors/summaries",
+                () -> mockMvc.perform(get("/api/v1/authors/summaries").param("ids", "20,21,22,23,24,25,26,27,28,29"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.length()").value(10)));
+    }
+
+    @Test
+    void searchStaysWithinBudget() throws Exception {
+        statementCounter.assertWithinBudget("GET /api/v1/authors/search",
+                () -> mockMvc.perform(get("/api/v1/authors/search").param("keyword", "Author 11"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.totalElements").value(11)));
+    }
+
+    @Test
+    void createStaysWithinBudget() throws Exception {
+        statementCounter.assertWithinBudget("POST /api/v1/authors",
+                () -> mockMvc.perform(post("/api/v1/authors")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(author("Budget Created", "created@example.com")))
+                        .andExpect(status().isCreated()));
+    }
+
+    @Test
+    void updateStaysWithinBudget() throws Exception {
+        statementCounter.assertWithinBudget("PUT /api/v1/authors/{id}",
+                () -> mockMvc.perform(put("/api/v1/authors/{id}", 150)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(author("Budget Updated", "updated@example.com")))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.email").value("updated@example.com")));
+    }
+
+    @Test
+    void deleteStaysWithinBudget() throws Exception {
+        statementCounter.assertWithinBudget("DELETE /api/v1/authors/{id}",
+                () -> mockMvc.perform(delete("/api/v1/authors/{id}", 160))
+                        .andExpect(status().isNoContent()));
+    }
+
+    // Dos búsquedas por id en la misma "petición" superan el presupuesto de una: así falla un N+1
+    @Test
+    void exceedingTheBudgetFails() {
+        assertThatThrownBy(() -> statementCounter.assertWithinBudget("GET /api/v1/authors/{id}", () -> {
+            mockMvc.perform(get("/api/v1/authors/{id}", 100)).andExpect(status().isOk());
+            mockMvc.perform(get("/api/v1/authors/{id}", 101)).andExpect(status().isOk());
+        }))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("SQL statements for GET /api/v1/authors/{id}");
+    }
+
+    private static String author(String name, String email) {
+        return "{\"name\":\"%s\",\"email\":\"%s\",\"authorType\":\"INDIVIDUAL\"}".formatted(name, email);
+    }
+}
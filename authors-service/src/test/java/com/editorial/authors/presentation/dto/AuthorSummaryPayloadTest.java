@@ -0,0 +1,67 @@
+package com.editorial.authors.presentation.dto;
+
+import com.editorial.authors.domain.entity.AuthorType;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Tamaño y coste de lectura de la respuesta de /summaries (lote de enriquecimiento de Publications Service)
+// en CBOR frente a JSON, con los mismos ObjectMapper que usan los conversores HTTP de Spring
+@Slf4j
+class AuthorSummaryPayloadTest {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 5_000;
+    private static final TypeReference<List<AuthorSummaryDTO>> SUMMARIES = new TypeReference<>() {
+    };
+
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper cbor = Jackson2ObjectMapperBuilder.cbor().build();
+
+    @Test
+    void cborSummaryBatchRoundTripsAndIsSmallerThanJson() throws Exception {
+        List<AuthorSummaryDTO> summaries = summaries();
+
+        byte[] jsonPayload = json.writeValueAsBytes(summaries);
+        byte[] cborPayload = cbor.writeValueAsBytes(summaries);
+
+        assertThat(cbor.readValue(cborPayload, SUMMARIES)).isEqualTo(summaries);
+        assertThat(cborPayload.length).isLessThan(jsonPayload.length);
+
+        double jsonMicros = averageParseMicros(json, jsonPayload);
+        double cborMicros = averageParseMicros(cbor, cborPayload);
+        log.info("{} summaries: JSON {} bytes, {} us/parse; CBOR {} bytes, {} us/parse",
+                BATCH_SIZE, jsonPayload.length, String.format("%.1f", jsonMicros),
+                cborPayload.length, String.format("%.1f", cborMicros));
+    }
+
+    private static double averageParseMicros(ObjectMapper mapper, byte[] payload) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            mapper.readValue(payload, SUMMARIES);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            mapper.readValue(payload, SUMMARIES);
+        }
+        return (System.nanoTime() - start) / 1_000.0 / MEASURED_ITERATIONS;
+    }
+
+    private static List<AuthorSummaryDTO> summaries() {
+        return LongStream.rangeClosed(1, BATCH_SIZE)
+                .mapToObj(id -> AuthorSummaryDTO.builder()
+                        .id(id * 7919)
+                        .name("Author " + Long.toHexString(id * 0x9E3779B97F4A7C15L))
+                        .email("author" + id + "@example.com")
+                        .authorType(id % 3 == 0 ? AuthorType.ORGANIZATION : AuthorType.INDIVIDUAL)
+                        .build())
+                .toList();
+    }
+}
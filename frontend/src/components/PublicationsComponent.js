@@ -35,6 +35,23 @@ const PublicationsComponent = () => {
     loadAuthors();
   }, [page, filterStatus]);
 
+  // Cambios de estado en vivo (SSE) en lugar de volver a consultar el listado
+  useEffect(() => {
+    const source = publicationService.subscribeToEvents(filterStatus);
+    const onStatusChanged = (message) => {
+      const event = JSON.parse(message.data);
+      if (filterStatus && event.status !== filterStatus) {
+        loadPublications();
+        return;
+      }
+      setPublications(prev => prev.map(pub =>
+        pub.id === event.publicationId ? { ...pub, status: event.status } : pub
+      ));
+    };
+    source.addEventListener('STATUS_CHANGED', onStatusChanged);
+    return () => source.close();
+  }, [filterStatus]);
+
   const loadPublications = async () => {
     setLoading(true);
     setError(null);
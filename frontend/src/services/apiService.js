@@ -67,6 +67,12 @@ export const publicationService = {
     
     getTotalPublicationsByStatus: (status) => 
         apiClient.get(`${PUBLICATIONS_API}/stats/by-status/${status}`),
+    
+    getDashboardStats: () => 
+        apiClient.get(`${PUBLICATIONS_API}/stats/dashboard`),
+    
+    subscribeToEvents: (status = null) => 
+        new EventSource(`${PUBLICATIONS_API}/events/stream${status ? `?status=${status}` : ''}`),
 };
 
 export default apiClient;
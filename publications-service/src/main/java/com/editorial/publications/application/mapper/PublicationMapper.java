@@ -1,6 +1,8 @@
 package com.editorial.publications.application.mapper;
 
+import com.editorial.publications.domain.entity.ArchivedPublication;
 import com.editorial.publications.domain.entity.Publication;
+import com.editorial.publications.domain.entity.r2dbc.PublicationRow;
 import com.editorial.publications.presentation.dto.CreatePublicationDTO;
 import com.editorial.publications.presentation.dto.PublicationResponseDTO;
 import org.mapstruct.Mapper;
@@ -11,8 +13,15 @@ import org.mapstruct.MappingTarget;
 public interface PublicationMapper {
 
     @Mapping(source = "id", target = "id")
+    @Mapping(target = "author", ignore = true)
     PublicationResponseDTO toResponseDTO(Publication publication);
 
+    @Mapping(target = "author", ignore = true)
+    PublicationResponseDTO toResponseDTO(ArchivedPublication archivedPublication);
+
+    @Mapping(target = "author", ignore = true)
+    PublicationResponseDTO toResponseDTO(PublicationRow publicationRow);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
@@ -24,6 +33,17 @@ public interface PublicationMapper {
     @Mapping(target = "rejectionReason", ignore = true)
     Publication toEntity(CreatePublicationDTO createPublicationDTO);
 
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "publishedAt", ignore = true)
+    @Mapping(target = "isActive", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "viewsCount", ignore = true)
+    @Mapping(target = "reviewerNotes", ignore = true)
+    @Mapping(target = "rejectionReason", ignore = true)
+    PublicationRow toRow(CreatePublicationDTO createPublicationDTO);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
@@ -1,12 +1,19 @@
 package com.editorial.publications.application.service;
 
 import com.editorial.publications.domain.entity.PublicationStatus;
+import com.editorial.publications.presentation.dto.BulkStatusTransitionDTO;
+import com.editorial.publications.presentation.dto.BulkStatusTransitionResultDTO;
 import com.editorial.publications.presentation.dto.CreatePublicationDTO;
+import com.editorial.publications.presentation.dto.DashboardStatsDTO;
 import com.editorial.publications.presentation.dto.PublicationResponseDTO;
+import com.editorial.publications.presentation.dto.TrendingPublicationDTO;
 import com.editorial.publications.presentation.dto.UpdatePublicationStatusDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+import java.util.Map;
+
 public interface IPublicationService {
 
     PublicationResponseDTO createPublication(CreatePublicationDTO createPublicationDTO);
@@ -21,13 +28,31 @@ public interface IPublicationService {
 
     Page<PublicationResponseDTO> searchPublications(String keyword, Pageable pageable);
 
+    Map<String, Object> getPublicationById(Long id, PublicationFieldSet fieldSet);
+
+    Page<Map<String, Object>> getAllPublications(Pageable pageable, PublicationFieldSet fieldSet);
+
+    Page<Map<String, Object>> getPublicationsByAuthor(Long authorId, Pageable pageable, PublicationFieldSet fieldSet);
+
+    Page<Map<String, Object>> getPublicationsByStatus(PublicationStatus status, Pageable pageable, PublicationFieldSet fieldSet);
+
+    Page<Map<String, Object>> searchPublications(String keyword, Pageable pageable, PublicationFieldSet fieldSet);
+
     PublicationResponseDTO updatePublicationStatus(Long id, UpdatePublicationStatusDTO updateDTO);
 
+    BulkStatusTransitionResultDTO bulkUpdatePublicationStatus(BulkStatusTransitionDTO bulkDTO);
+
     void deletePublication(Long id);
 
+    Page<PublicationResponseDTO> getArchivedPublications(Long authorId, Pageable pageable);
+
+    List<TrendingPublicationDTO> getTrendingPublications(String category, int limit);
+
     long getTotalPublications();
 
     long getTotalPublicationsByStatus(PublicationStatus status);
 
     long getTotalPublicationsByAuthor(Long authorId);
+
+    DashboardStatsDTO getDashboardStats();
 }
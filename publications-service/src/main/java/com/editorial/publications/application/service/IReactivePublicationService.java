@@ -0,0 +1,60 @@
+package com.editorial.publications.application.service;
+
+import com.editorial.publications.domain.entity.PublicationStatus;
+import com.editorial.publications.presentation.dto.BulkStatusTransitionDTO;
+import com.editorial.publications.presentation.dto.BulkStatusTransitionResultDTO;
+import com.editorial.publications.presentation.dto.CreatePublicationDTO;
+import com.editorial.publications.presentation.dto.DashboardStatsDTO;
+import com.editorial.publications.presentation.dto.PublicationResponseDTO;
+import com.editorial.publications.presentation.dto.TrendingPublicationDTO;
+import com.editorial.publications.presentation.dto.UpdatePublicationStatusDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+// Mismas operaciones que IPublicationService para el modo reactivo (perfil "reactive")
+public interface IReactivePublicationService {
+
+    Mono<PublicationResponseDTO> createPublication(CreatePublicationDTO createPublicationDTO);
+
+    Mono<PublicationResponseDTO> getPublicationById(Long id);
+
+    Mono<Page<PublicationResponseDTO>> getAllPublications(Pageable pageable);
+
+    Mono<Page<PublicationResponseDTO>> getPublicationsByAuthor(Long authorId, Pageable pageable);
+
+    Mono<Page<PublicationResponseDTO>> getPublicationsByStatus(PublicationStatus status, Pageable pageable);
+
+    Mono<Page<PublicationResponseDTO>> searchPublications(String keyword, Pageable pageable);
+
+    Mono<Map<String, Object>> getPublicationById(Long id, PublicationFieldSet fieldSet);
+
+    Mono<Page<Map<String, Object>>> getAllPublications(Pageable pageable, PublicationFieldSet fieldSet);
+
+    Mono<Page<Map<String, Object>>> getPublicationsByAuthor(Long authorId, Pageable pageable, PublicationFieldSet fieldSet);
+
+    Mono<Page<Map<String, Object>>> getPublicationsByStatus(PublicationStatus status, Pageable pageable, PublicationFieldSet fieldSet);
+
+    Mono<Page<Map<String, Object>>> searchPublications(String keyword, Pageable pageable, PublicationFieldSet fieldSet);
+
+    Mono<PublicationResponseDTO> updatePublicationStatus(Long id, UpdatePublicationStatusDTO updateDTO);
+
+    Mono<BulkStatusTransitionResultDTO> bulkUpdatePublicationStatus(BulkStatusTransitionDTO bulkDTO);
+
+    Mono<Void> deletePublication(Long id);
+
+    Mono<Page<PublicationResponseDTO>> getArchivedPublications(Long authorId, Pageable pageable);
+
+    Mono<List<TrendingPublicationDTO>> getTrendingPublications(String category, int limit);
+
+    Mono<Long> getTotalPublications();
+
+    Mono<Long> getTotalPublicationsByStatus(PublicationStatus status);
+
+    Mono<Long> getTotalPublicationsByAuthor(Long authorId);
+
+    Mono<DashboardStatsDTO> getDashboardStats();
+}
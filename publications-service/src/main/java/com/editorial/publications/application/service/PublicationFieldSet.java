@@ -0,0 +1,111 @@
+package com.editorial.publications.application.service;
+
+import com.editorial.publications.infrastructure.exception.PublicationValidationException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public final class PublicationFieldSet {
+
+    public static final String AUTHOR = "author";
+    public static final String SUMMARY = "summary";
+
+    // Mismo orden que PublicationResponseDTO; todos salvo summary son atributos de la entidad
+    private static final List<String> FIELDS = List.of(
+            "id", "title", "description", "content", "authorId", "status", "keywords", "category",
+            "language", "viewsCount", "reviewerNotes", "rejectionReason", "createdAt", "updatedAt",
+            "publishedAt", "isActive", SUMMARY);
+
+    private static final List<String> SUMMARY_ATTRIBUTES = List.of("title", "status", "authorId");
+
+    private static final PublicationFieldSet DEFAULT = new PublicationFieldSet(new LinkedHashSet<>(FIELDS), true, true);
+
+    private final Set<String> fields;
+    private final boolean expandAuthor;
+    private final boolean defaultView;
+
+    private PublicationFieldSet(Set<String> fields, boolean expandAuthor, boolean defaultView) {
+        this.fields = Collections.unmodifiableSet(fields);
+        this.expandAuthor = expandAuthor;
+        this.defaultView = defaultView;
+    }
+
+    // Sin fields ni expand se mantiene la respuesta completa de siempre (con author).
+    // Con fields, author solo se incluye si se pide expand=author; expand vacío lo desactiva.
+    public static PublicationFieldSet parse(String fields, String expand) {
+        if (fields == null && expand == null) {
+            return DEFAULT;
+        }
+
+        Set<String> selected = new LinkedHashSet<>();
+        if (fields == null || fields.isBlank()) {
+            selected.addAll(FIELDS);
+        } else {
+            for (String field : split(fields)) {
+                if (!FIELDS.contains(field)) {
+                    throw new PublicationValidationException("Unknown publication field: " + field
+                            + ". Allowed fields: " + String.join(",", FIELDS));
+                }
+                selected.add(field);
+            }
+            // El id siempre se devuelve para que el cliente pueda referenciar la publicación
+            selected.add("id");
+        }
+
+        boolean expandAuthor = false;
+        for (String value : split(expand == null ? "" : expand)) {
+            if (!AUTHOR.equals(value)) {
+                throw new PublicationValidationException("Unknown expansion: " + value + ". Allowed: " + AUTHOR);
+            }
+            expandAuthor = true;
+        }
+
+        return new PublicationFieldSet(selected, expandAuthor, false);
+    }
+
+    public static PublicationFieldSet defaultView() {
+        return DEFAULT;
+    }
+
+    public boolean isDefaultView() {
+        return defaultView;
+    }
+
+    public boolean includes(String field) {
+        return fields.contains(field);
+    }
+
+    public boolean isExpandAuthor() {
+        return expandAuthor;
+    }
+
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    // Atributos de la entidad que hay que seleccionar para construir los campos pedidos
+    public List<String> getAttributes() {
+        Set<String> attributes = new LinkedHashSet<>();
+        for (String field : fields) {
+            if (SUMMARY.equals(field)) {
+                attributes.addAll(SUMMARY_ATTRIBUTES);
+            } else {
+                attributes.add(field);
+            }
+        }
+        if (expandAuthor) {
+            attributes.add("authorId");
+        }
+        return List.copyOf(attributes);
+    }
+
+    private static List<String> split(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,269 @@
+package com.editorial.publications.application.service.impl;
+
+import com.editorial.publications.domain.entity.AuthorSnapshot;
+import com.editorial.publications.domain.repository.AuthorSnapshotRepository;
+import com.editorial.publications.domain.repository.PublicationRepository;
+import com.editorial.publications.infrastructure.cache.PublicationListingCache;
+import com.editorial.publications.infrastructure.client.AuthorServiceClient;
+import com.editorial.publications.infrastructure.client.AuthorsChangedEvent;
+import com.editorial.publications.infrastructure.jfr.AuthorEnrichmentEvent;
+import com.editorial.publications.presentation.dto.PublicationResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@Slf4j
+public class AuthorSnapshotService {
+
+    @Value("${publications.author-snapshot.ttl:600000}")
+    private long ttl;
+
+    @Value("${publications.author-snapshot.refresh-batch-size:100}")
+    private int refreshBatchSize;
+
+    private final AuthorSnapshotRepository authorSnapshotRepository;
+    private final PublicationRepository publicationRepository;
+    private final AuthorServiceClient authorServiceClient;
+    private final PublicationListingCache publicationListingCache;
+    private final TransactionTemplate requiresNewTransaction;
+    private final Set<Long> pendingAuthorIds = ConcurrentHashMap.newKeySet();
+    private volatile boolean backfillPending = true;
+
+    public AuthorSnapshotService(AuthorSnapshotRepository authorSnapshotRepository,
+                                 PublicationRepository publicationRepository,
+                                 AuthorServiceClient authorServiceClient,
+                                 PublicationListingCache publicationListingCache,
+                                 PlatformTransactionManager transactionManager) {
+        this.authorSnapshotRepository = authorSnapshotRepository;
+        this.publicationRepository = publicationRepository;
+        this.authorServiceClient = authorServiceClient;
+        this.publicationListingCache = publicationListingCache;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // La llamada a Authors Service se hace tras el commit, sin mantener abierta la transacción de la
+    // publicación; si falla, el autor queda pendiente para el siguiente refresco programado. fetched es el
+    // autor ya resuelto para la respuesta: si no había snapshot, viene de Authors Service y se guarda sin
+    // volver a pedirlo
+    public void captureSnapshotAfterCommit(Long authorId, PublicationResponseDTO.AuthorDTO fetched) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            captureSnapshot(authorId, fetched);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                captureSnapshot(authorId, fetched);
+            }
+        });
+    }
+
+    // Para el modo reactivo, que no bloquea la respuesta esperando a Authors Service
+    public void scheduleCapture(Long authorId) {
+        pendingAuthorIds.add(authorId);
+    }
+
+    // Autores servidos desde /summaries por no tener snapshot: el refresco programado los persiste
+    // para que las lecturas siguientes no vuelvan a pedirlos en remoto
+    public void scheduleCaptures(Collection<Long> authorIds) {
+        pendingAuthorIds.addAll(authorIds);
+    }
+
+    private void captureSnapshot(Long authorId, PublicationResponseDTO.AuthorDTO fetched) {
+        try {
+            AuthorSnapshot existing = authorSnapshotRepository.findById(authorId).orElse(null);
+            if (existing != null && existing.getRefreshedAt().isAfter(staleBefore())) {
+                return;
+            }
+
+            AuthorServiceClient.AuthorInfo authorInfo = existing == null && fetched != null
+                    ? new AuthorServiceClient.AuthorInfo(fetched.getId(), fetched.getName(), fetched.getEmail(),
+                            fetched.getAuthorType())
+                    : authorServiceClient.getAuthorById(authorId);
+            if (authorInfo != null) {
+                // En afterCommit los recursos de la transacción original siguen ligados al hilo
+                requiresNewTransaction.executeWithoutResult(
+                        status -> authorSnapshotRepository.save(toSnapshot(authorInfo, LocalDateTime.now())));
+                log.debug("Author snapshot captured for author: {}", authorId);
+            }
+        } catch (Exception e) {
+            pendingAuthorIds.add(authorId);
+            log.warn("Could not capture author snapshot for author {}: {}", authorId, e.getMessage());
+        }
+    }
+
+    public Map<Long, PublicationResponseDTO.AuthorDTO> findAuthors(Collection<Long> authorIds) {
+        AuthorEnrichmentEvent event = new AuthorEnrichmentEvent();
+        event.begin();
+        Set<Long> requested = new LinkedHashSet<>(authorIds);
+        Map<Long, PublicationResponseDTO.AuthorDTO> authors = new HashMap<>();
+        authorSnapshotRepository.findAllById(requested)
+                .forEach(snapshot -> authors.put(snapshot.getAuthorId(), toAuthorDTO(snapshot)));
+        int fromSnapshots = authors.size();
+        int remoteCalls = 0;
+
+        // Sin snapshot todavía: una sola llamada a Authors Service para todos los que falten, como en el
+        // modo reactivo; quedan pendientes para que el refresco programado persista sus snapshots
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long authorId : requested) {
+            if (authorId != null && !authors.containsKey(authorId)) {
+                missing.add(authorId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            remoteCalls++;
+            scheduleCaptures(missing);
+            try {
+                LocalDateTime now = LocalDateTime.now();
+                for (AuthorServiceClient.AuthorInfo authorInfo : authorServiceClient.getAuthorsByIds(missing)) {
+                    authors.put(authorInfo.id, toAuthorDTO(toSnapshot(authorInfo, now)));
+                }
+            } catch (Exception e) {
+                log.warn("Could not enrich publications with author data: {}", e.getMessage());
+            }
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.requested = requested.size();
+            event.fromSnapshots = fromSnapshots;
+            event.remoteCalls = remoteCalls;
+            event.missing = requested.size() - authors.size();
+            event.commit();
+        }
+        return authors;
+    }
+
+    @Scheduled(fixedDelayString = "${publications.author-snapshot.refresh-interval:60000}",
+            initialDelayString = "${publications.author-snapshot.refresh-initial-delay:30000}")
+    public void refreshSnapshots() {
+        Set<Long> authorIds = new LinkedHashSet<>();
+        for (Long authorId : pendingAuthorIds) {
+            if (authorIds.size() >= refreshBatchSize) {
+                break;
+            }
+            authorIds.add(authorId);
+        }
+        pendingAuthorIds.removeAll(authorIds);
+
+        // El recorrido de publicaciones sin snapshot solo cubre las filas anteriores a este proceso: las
+        // nuevas se capturan al crearlas, así que deja de ejecutarse en cuanto no quedan huecos
+        boolean backfillDone = false;
+        if (backfillPending) {
+            List<Long> withoutSnapshot = publicationRepository.findAuthorIdsWithoutSnapshot(
+                    PageRequest.of(0, refreshBatchSize));
+            authorIds.addAll(withoutSnapshot);
+            backfillDone = withoutSnapshot.size() < refreshBatchSize;
+        }
+        authorIds.addAll(authorSnapshotRepository.findStaleAuthorIds(staleBefore(), PageRequest.of(0, refreshBatchSize)));
+
+        try {
+            if (!authorIds.isEmpty()) {
+                refreshOrThrow(authorIds);
+            }
+            if (backfillDone) {
+                backfillPending = false;
+                log.info("Author snapshot backfill completed");
+            }
+        } catch (Exception e) {
+            pendingAuthorIds.addAll(authorIds);
+            log.warn("Could not refresh author snapshots: {}", e.getMessage());
+        }
+    }
+
+    // Los cambios detectados por el índice de autores activos refrescan los snapshots afectados
+    @EventListener
+    public void onAuthorsChanged(AuthorsChangedEvent event) {
+        List<Long> snapshotted = authorSnapshotRepository.findAllById(event.authorIds())
+                .stream()
+                .map(AuthorSnapshot::getAuthorId)
+                .toList();
+        if (!snapshotted.isEmpty()) {
+            refresh(snapshotted);
+        }
+    }
+
+    public List<AuthorSnapshot> refresh(Collection<Long> authorIds) {
+        try {
+            return refreshOrThrow(authorIds);
+        } catch (Exception e) {
+            log.warn("Could not refresh author snapshots: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private List<AuthorSnapshot> refreshOrThrow(Collection<Long> authorIds) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, AuthorSnapshot> existing = new HashMap<>();
+        authorSnapshotRepository.findAllById(authorIds)
+                .forEach(snapshot -> existing.put(snapshot.getAuthorId(), snapshot));
+
+        List<AuthorSnapshot> snapshots = new ArrayList<>();
+        boolean changed = false;
+        for (AuthorServiceClient.AuthorInfo authorInfo : authorServiceClient.getAuthorsByIds(authorIds)) {
+            AuthorSnapshot snapshot = toSnapshot(authorInfo, now);
+            changed |= !sameDisplayData(existing.get(snapshot.getAuthorId()), snapshot);
+            snapshots.add(snapshot);
+        }
+        authorSnapshotRepository.saveAll(snapshots);
+
+        // Los listados cacheados incluyen los datos del autor
+        if (changed) {
+            publicationListingCache.evictAll();
+        }
+        log.debug("Refreshed {} author snapshots", snapshots.size());
+        return snapshots;
+    }
+
+    private LocalDateTime staleBefore() {
+        return LocalDateTime.now().minus(Duration.ofMillis(ttl));
+    }
+
+    private boolean sameDisplayData(AuthorSnapshot current, AuthorSnapshot refreshed) {
+        return current != null
+                && Objects.equals(current.getName(), refreshed.getName())
+                && Objects.equals(current.getEmail(), refreshed.getEmail())
+                && Objects.equals(current.getAuthorType(), refreshed.getAuthorType());
+    }
+
+    private AuthorSnapshot toSnapshot(AuthorServiceClient.AuthorInfo authorInfo, LocalDateTime refreshedAt) {
+        return AuthorSnapshot.builder()
+                .authorId(authorInfo.getId())
+                .name(authorInfo.getName())
+                .email(authorInfo.getEmail())
+                .authorType(authorInfo.getAuthorType())
+                .refreshedAt(refreshedAt)
+                .build();
+    }
+
+    private PublicationResponseDTO.AuthorDTO toAuthorDTO(AuthorSnapshot snapshot) {
+        return PublicationResponseDTO.AuthorDTO.builder()
+                .id(snapshot.getAuthorId())
+                .name(snapshot.getName())
+                .email(snapshot.getEmail())
+                .authorType(snapshot.getAuthorType())
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package com.editorial.publications.application.service.impl;
+
+import com.editorial.publications.domain.entity.PublicationStatus;
+import com.editorial.publications.domain.repository.PublicationRepository;
+import com.editorial.publications.infrastructure.client.AuthorServiceClient;
+import com.editorial.publications.presentation.dto.DashboardStatsDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Estadísticas del dashboard en una sola respuesta cacheada: dentro del TTL se sirve la copia,
+// hasta max-stale se sirve la copia marcada como stale mientras se recalcula en segundo plano,
+// y solo una recarga está en curso a la vez aunque lleguen muchas peticiones simultáneas
+@Component
+@Slf4j
+public class DashboardStatsService {
+
+    @Value("${publications.dashboard.ttl:10000}")
+    private long ttl;
+
+    @Value("${publications.dashboard.max-stale:60000}")
+    private long maxStale;
+
+    @Value("${publications.dashboard.load-timeout:5000}")
+    private long loadTimeout;
+
+    private final PublicationRepository publicationRepository;
+    private final AuthorServiceClient authorServiceClient;
+    private final ExecutorService executor;
+    private final AtomicReference<CompletableFuture<DashboardStatsDTO>> inFlight = new AtomicReference<>();
+
+    private volatile CachedStats cached;
+
+    public DashboardStatsService(PublicationRepository publicationRepository,
+                                 AuthorServiceClient authorServiceClient) {
+        this.publicationRepository = publicationRepository;
+        this.authorServiceClient = authorServiceClient;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-stats-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public DashboardStatsDTO getDashboardStats() {
+        CachedStats current = cached;
+        long now = System.currentTimeMillis();
+
+        if (current != null) {
+            long age = now - current.loadedAt;
+            if (age < ttl) {
+                return current.stats;
+            }
+            if (age < maxStale) {
+                refresh();
+                return current.stats.toBuilder().stale(true).build();
+            }
+        }
+
+        try {
+            return refresh().get(loadTimeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading dashboard stats", e);
+        } catch (Exception e) {
+            log.error("Could not load dashboard stats: {}", e.getMessage());
+            throw new IllegalStateException("Dashboard stats unavailable", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private CompletableFuture<DashboardStatsDTO> refresh() {
+        CompletableFuture<DashboardStatsDTO> future = new CompletableFuture<>();
+        if (!inFlight.compareAndSet(null, future)) {
+            CompletableFuture<DashboardStatsDTO> running = inFlight.get();
+            return running != null ? running : refresh();
+        }
+
+        load().whenComplete((stats, error) -> {
+            if (error == null) {
+                cached = new CachedStats(stats, System.currentTimeMillis());
+                future.complete(stats);
+            } else {
+                future.completeExceptionally(error);
+            }
+            inFlight.set(null);
+        });
+        return future;
+    }
+
+    // El recuento agrupado por estado y la llamada a Authors Service se lanzan en paralelo
+    private CompletableFuture<DashboardStatsDTO> load() {
+        CompletableFuture<List<Object[]>> statusCounts =
+                CompletableFuture.supplyAsync(publicationRepository::countActiveGroupedByStatus, executor);
+        CompletableFuture<Long> totalAuthors =
+                CompletableFuture.supplyAsync(authorServiceClient::getTotalAuthors, executor)
+                        .exceptionally(this::previousTotalAuthors);
+
+        return statusCounts.thenCombine(totalAuthors, (rows, authors) -> {
+            Map<PublicationStatus, Long> byStatus = new EnumMap<>(PublicationStatus.class);
+            for (PublicationStatus status : PublicationStatus.values()) {
+                byStatus.put(status, 0L);
+            }
+            long totalPublications = 0;
+            for (Object[] row : rows) {
+                long count = (Long) row[1];
+                byStatus.put((PublicationStatus) row[0], count);
+                totalPublications += count;
+            }
+            return DashboardStatsDTO.builder()
+                    .totalAuthors(authors)
+                    .totalPublications(totalPublications)
+                    .publicationsByStatus(byStatus)
+                    .generatedAt(LocalDateTime.now())
+                    .stale(false)
+                    .build();
+        });
+    }
+
+    // Si Authors Service no responde se conserva el último total conocido (o null si nunca se obtuvo)
+    private Long previousTotalAuthors(Throwable error) {
+        log.warn("Could not fetch total authors for dashboard: {}", error.getMessage());
+        CachedStats current = cached;
+        return current == null ? null : current.stats.getTotalAuthors();
+    }
+
+    private record CachedStats(DashboardStatsDTO stats, long loadedAt) {
+    }
+}
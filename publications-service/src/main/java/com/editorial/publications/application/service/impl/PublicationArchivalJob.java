@@ -0,0 +1,153 @@
+package com.editorial.publications.application.service.impl;
+
+import com.editorial.publications.domain.entity.Publication;
+import com.editorial.publications.domain.entity.PublicationStatus;
+import com.editorial.publications.domain.repository.PublicationRepository;
+import com.editorial.publications.infrastructure.cache.PublicationListingCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+public class PublicationArchivalJob {
+
+    @Value("${publications.archival.enabled:false}")
+    private boolean enabled;
+
+    @Value("${publications.archival.max-age-days:365}")
+    private long maxAgeDays;
+
+    @Value("${publications.archival.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${publications.archival.pause-between-chunks:200}")
+    private long pauseBetweenChunks;
+
+    @Value("${publications.archival.max-chunks-per-run:1000}")
+    private int maxChunksPerRun;
+
+    private final PublicationRepository publicationRepository;
+    private final PublicationListingCache publicationListingCache;
+    private final PublicationEventRecorder publicationEventRecorder;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong lastRunArchived = new AtomicLong();
+    private final Counter archivedCounter;
+    private final Timer chunkTimer;
+
+    public PublicationArchivalJob(PublicationRepository publicationRepository,
+                                  PublicationListingCache publicationListingCache,
+                                  PublicationEventRecorder publicationEventRecorder,
+                                  TransactionTemplate transactionTemplate,
+                                  MeterRegistry meterRegistry) {
+        this.publicationRepository = publicationRepository;
+        this.publicationListingCache = publicationListingCache;
+        this.publicationEventRecorder = publicationEventRecorder;
+        this.transactionTemplate = transactionTemplate;
+        this.archivedCounter = Counter.builder("publications.archival.archived")
+                .description("Publications moved from PUBLISHED to ARCHIVED by the archival job")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("publications.archival.chunk")
+                .description("Duration of each archival chunk transaction")
+                .register(meterRegistry);
+        Gauge.builder("publications.archival.last.run.archived", lastRunArchived, AtomicLong::get)
+                .register(meterRegistry);
+        Gauge.builder("publications.archival.running", running, flag -> flag.get() ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${publications.archival.cron:0 0 3 * * *}")
+    public void archiveStalePublications() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            run();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // Cada lote se confirma por separado: si el proceso cae, la siguiente ejecución
+    // vuelve a seleccionar solo las publicaciones que siguen en PUBLISHED
+    private void run() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(maxAgeDays);
+        long started = System.nanoTime();
+        long archived = 0;
+        long afterId = 0;
+        log.info("Archival job started for publications published before {}", cutoff);
+
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            List<Object[]> rows = publicationRepository.findIdsByStatusPublishedBefore(
+                    PublicationStatus.PUBLISHED, cutoff, afterId, PageRequest.of(0, chunkSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+            Map<Long, Long> authorIdsById = new LinkedHashMap<>();
+            for (Object[] row : rows) {
+                authorIdsById.put((Long) row[0], (Long) row[1]);
+            }
+            List<Long> ids = List.copyOf(authorIdsById.keySet());
+            afterId = ids.get(ids.size() - 1);
+
+            Integer updated = chunkTimer.record(() -> transactionTemplate.execute(status -> {
+                int count = publicationRepository.transitionStatus(
+                        ids, PublicationStatus.PUBLISHED, PublicationStatus.ARCHIVED, LocalDateTime.now());
+                if (count < ids.size()) {
+                    // Alguna cambió de estado entre la selección y el UPDATE: solo se recargan en ese caso
+                    Set<Long> archivedIds = publicationRepository.findAllById(ids).stream()
+                            .filter(publication -> publication.getStatus() == PublicationStatus.ARCHIVED)
+                            .map(Publication::getId)
+                            .collect(Collectors.toSet());
+                    authorIdsById.keySet().retainAll(archivedIds);
+                }
+                publicationEventRecorder.recordStatusChanges(
+                        authorIdsById, PublicationStatus.PUBLISHED, PublicationStatus.ARCHIVED);
+                publicationListingCache.evictAll();
+                return count;
+            }));
+            archived += updated == null ? 0 : updated;
+            archivedCounter.increment(updated == null ? 0 : updated);
+
+            double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+            log.info("Archival progress: {} publications archived (last id: {}, {} per second)",
+                    archived, afterId, String.format("%.1f", archived / Math.max(seconds, 0.001)));
+
+            if (ids.size() < chunkSize || !pause()) {
+                break;
+            }
+        }
+
+        lastRunArchived.set(archived);
+        log.info("Archival job finished: {} publications archived in {} ms",
+                archived, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseBetweenChunks);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Archival job interrupted");
+            return false;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.editorial.publications.application.service.impl;
+
+import com.editorial.publications.domain.repository.PublicationArchiveRepository;
+import com.editorial.publications.domain.repository.PublicationRepository;
+import com.editorial.publications.infrastructure.cache.PublicationListingCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Mueve las publicaciones archivadas o eliminadas a publications_archive para que la tabla
+// publications y sus índices solo contengan las filas que sirven los listados
+@Component
+@Slf4j
+public class PublicationColdStorageJob {
+
+    @Value("${publications.cold-storage.enabled:false}")
+    private boolean enabled;
+
+    @Value("${publications.cold-storage.cold-after-days:7}")
+    private long coldAfterDays;
+
+    @Value("${publications.cold-storage.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${publications.cold-storage.pause-between-chunks:200}")
+    private long pauseBetweenChunks;
+
+    @Value("${publications.cold-storage.max-chunks-per-run:1000}")
+    private int maxChunksPerRun;
+
+    private final PublicationRepository publicationRepository;
+    private final PublicationArchiveRepository publicationArchiveRepository;
+    private final PublicationListingCache publicationListingCache;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong lastRunMoved = new AtomicLong();
+    private final Counter movedCounter;
+    private final Timer chunkTimer;
+
+    public PublicationColdStorageJob(PublicationRepository publicationRepository,
+                                     PublicationArchiveRepository publicationArchiveRepository,
+                                     PublicationListingCache publicationListingCache,
+                                     TransactionTemplate transactionTemplate,
+                                     MeterRegistry meterRegistry) {
+        this.publicationRepository = publicationRepository;
+        this.publicationArchiveRepository = publicationArchiveRepository;
+        this.publicationListingCache = publicationListingCache;
+        this.transactionTemplate = transactionTemplate;
+        this.movedCounter = Counter.builder("publications.cold-storage.moved")
+                .description("Archived or deleted publications moved to the cold table")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("publications.cold-storage.chunk")
+                .description("Duration of each cold storage chunk transaction")
+                .register(meterRegistry);
+        Gauge.builder("publications.cold-storage.last.run.moved", lastRunMoved, AtomicLong::get)
+                .register(meterRegistry);
+        Gauge.builder("publications.cold-storage.running", running, flag -> flag.get() ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${publications.cold-storage.cron:0 30 3 * * *}")
+    public void moveColdPublications() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            run();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // Copia y borrado van en la misma transacción por lote: una fila nunca está en las dos tablas
+    // ni en ninguna. Solo se mueven filas sin tocar desde hace cold-after-days, así los eventos
+    // del outbox y las lecturas recientes ya se han servido desde la tabla caliente.
+    private void run() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(coldAfterDays);
+        long started = System.nanoTime();
+        long moved = 0;
+        long afterId = 0;
+        log.info("Cold storage job started for publications archived or deleted before {}", cutoff);
+
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            List<Long> ids = publicationRepository.findColdIds(cutoff, afterId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+
+            Integer deleted = chunkTimer.record(() -> transactionTemplate.execute(status -> {
+                publicationArchiveRepository.copyFromPublications(ids, LocalDateTime.now());
+                return publicationRepository.deleteByIds(ids);
+            }));
+            moved += deleted == null ? 0 : deleted;
+            movedCounter.increment(deleted == null ? 0 : deleted);
+
+            double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+            log.info("Cold storage progress: {} publications moved (last id: {}, {} per second)",
+                    moved, afterId, String.format("%.1f", moved / Math.max(seconds, 0.001)));
+
+            if (ids.size() < chunkSize || !pause()) {
+                break;
+            }
+        }
+
+        // Las páginas de ARCHIVED y los totales cacheados dejan de ser válidos
+        if (moved > 0) {
+            publicationListingCache.evictAll();
+        }
+        lastRunMoved.set(moved);
+        log.info("Cold storage job finished: {} publications moved in {} ms",
+                moved, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseBetweenChunks);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Cold storage job interrupted");
+            return false;
+        }
+    }
+}
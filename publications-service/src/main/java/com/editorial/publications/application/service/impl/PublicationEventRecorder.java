@@ -0,0 +1,77 @@
+package com.editorial.publications.application.service.impl;
+
+import com.editorial.publications.domain.entity.OutboxEvent;
+import com.editorial.publications.domain.entity.Publication;
+import com.editorial.publications.domain.entity.PublicationStatus;
+import com.editorial.publications.domain.repository.OutboxEventRepository;
+import com.editorial.publications.infrastructure.outbox.PublicationEvent;
+import com.editorial.publications.infrastructure.outbox.PublicationEventType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Slf4j
+@AllArgsConstructor
+public class PublicationEventRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    // Se escribe en la misma transacción que el cambio de la publicación
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(PublicationEventType type, Publication publication, PublicationStatus previousStatus) {
+        outboxEventRepository.save(toOutboxEvent(type, publication, previousStatus, LocalDateTime.now()));
+    }
+
+    // Para cambios masivos de estado donde solo se conocen id y autor de cada publicación
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChanges(Map<Long, Long> authorIdsByPublicationId,
+                                    PublicationStatus previousStatus, PublicationStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = new ArrayList<>(authorIdsByPublicationId.size());
+        authorIdsByPublicationId.forEach((publicationId, authorId) -> events.add(toOutboxEvent(
+                PublicationEventType.STATUS_CHANGED, publicationId, authorId, previousStatus, status, now)));
+        outboxEventRepository.saveAll(events);
+    }
+
+    private OutboxEvent toOutboxEvent(PublicationEventType type, Publication publication,
+                                      PublicationStatus previousStatus, LocalDateTime now) {
+        return toOutboxEvent(type, publication.getId(), publication.getAuthorId(),
+                previousStatus, publication.getStatus(), now);
+    }
+
+    private OutboxEvent toOutboxEvent(PublicationEventType type, Long publicationId, Long authorId,
+                                      PublicationStatus previousStatus, PublicationStatus status,
+                                      LocalDateTime now) {
+        PublicationEvent event = PublicationEvent.builder()
+                .type(type)
+                .publicationId(publicationId)
+                .authorId(authorId)
+                .previousStatus(previousStatus)
+                .status(status)
+                .occurredAt(now)
+                .build();
+
+        try {
+            return OutboxEvent.builder()
+                    .aggregateId(publicationId)
+                    .eventType(type.name())
+                    .payload(objectMapper.writeValueAsString(event))
+                    .createdAt(now)
+                    .nextAttemptAt(now)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize publication event", e);
+        }
+    }
+}
@@ -2,21 +2,51 @@ package com.editorial.publications.application.service.impl;
 
 import com.editorial.publications.application.mapper.PublicationMapper;
 import com.editorial.publications.application.service.IPublicationService;
+import com.editorial.publications.application.service.PublicationFieldSet;
+import com.editorial.publications.domain.entity.ArchivedPublication;
 import com.editorial.publications.domain.entity.Publication;
 import com.editorial.publications.domain.entity.PublicationStatus;
+import com.editorial.publications.domain.repository.PublicationArchiveRepository;
 import com.editorial.publications.domain.repository.PublicationRepository;
-import com.editorial.publications.infrastructure.client.AuthorServiceClient;
+import com.editorial.publications.infrastructure.cache.PublicationListingCache;
+import com.editorial.publications.infrastructure.client.ActiveAuthorIndex;
 import com.editorial.publications.infrastructure.exception.PublicationNotFoundException;
 import com.editorial.publications.infrastructure.exception.PublicationValidationException;
+import com.editorial.publications.infrastructure.outbox.PublicationEventType;
+import com.editorial.publications.infrastructure.trending.PublicationTrendingTracker;
+import com.editorial.publications.presentation.dto.BulkStatusTransitionDTO;
+import com.editorial.publications.presentation.dto.BulkStatusTransitionResultDTO;
 import com.editorial.publications.presentation.dto.CreatePublicationDTO;
+import com.editorial.publications.presentation.dto.DashboardStatsDTO;
 import com.editorial.publications.presentation.dto.PublicationResponseDTO;
+import com.editorial.publications.presentation.dto.TrendingPublicationDTO;
 import com.editorial.publications.presentation.dto.UpdatePublicationStatusDTO;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -24,10 +54,20 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class PublicationServiceImpl implements IPublicationService {
 
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final TransactionDefinition READ_ONLY = readOnlyDefinition();
+
     private final PublicationRepository publicationRepository;
+    private final PublicationArchiveRepository publicationArchiveRepository;
     private final PublicationMapper publicationMapper;
-    private final AuthorServiceClient authorServiceClient;
+    private final ActiveAuthorIndex activeAuthorIndex;
     private final PublicationValidator publicationValidator;
+    private final AuthorSnapshotService authorSnapshotService;
+    private final PublicationListingCache publicationListingCache;
+    private final PublicationEventRecorder publicationEventRecorder;
+    private final DashboardStatsService dashboardStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final PublicationTrendingTracker publicationTrendingTracker;
 
     @Override
     public PublicationResponseDTO createPublication(CreatePublicationDTO createPublicationDTO) {
@@ -38,16 +78,21 @@ public class PublicationServiceImpl implements IPublicationService {
 
         // Validar que el autor exista (comunicación con Authors Service)
         Long authorId = createPublicationDTO.getAuthorId();
-        if (!authorServiceClient.authorExists(authorId)) {
+        if (!activeAuthorIndex.authorExists(authorId)) {
             throw new PublicationValidationException("Author not found with id: " + authorId);
         }
 
         Publication publication = publicationMapper.toEntity(createPublicationDTO);
         publication.setStatus(PublicationStatus.DRAFT);
         Publication savedPublication = publicationRepository.save(publication);
+        publicationEventRecorder.record(PublicationEventType.CREATED, savedPublication, null);
+        publicationListingCache.evict(authorId, savedPublication.getStatus());
+
+        PublicationResponseDTO response = enrichPublicationResponse(savedPublication);
+        authorSnapshotService.captureSnapshotAfterCommit(authorId, response.getAuthor());
 
         log.info("Publication created successfully with id: {}", savedPublication.getId());
-        return enrichPublicationResponse(savedPublication);
+        return response;
     }
 
     @Override
@@ -55,42 +100,97 @@ public class PublicationServiceImpl implements IPublicationService {
     public PublicationResponseDTO getPublicationById(Long id) {
         log.debug("Fetching publication with id: {}", id);
 
-        Publication publication = publicationRepository.findById(id)
-                .orElseThrow(() -> new PublicationNotFoundException("Publication not found with id: " + id));
+        Publication publication = publicationRepository.findById(id).orElse(null);
+        if (publication == null) {
+            // Archivadas y eliminadas pueden haberse movido ya a almacenamiento frío
+            ArchivedPublication archived = findArchived(id);
+            return enrichArchivedResponse(archived,
+                    authorSnapshotService.findAuthors(List.of(archived.getAuthorId())));
+        }
+
+        // findById también devuelve las eliminadas (is_active = false), que no deben volver al ranking
+        if (Boolean.TRUE.equals(publication.getIsActive())) {
+            publicationTrendingTracker.recordView(publication.getId(), publication.getCategory());
+        }
 
         return enrichPublicationResponse(publication);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Page<PublicationResponseDTO> getAllPublications(Pageable pageable) {
         log.debug("Fetching all publications with pagination: {}", pageable);
-        return publicationRepository.findAllActive(pageable)
-                .map(this::enrichPublicationResponse);
+        return publicationListingCache.get(
+                PublicationListingCache.Key.of(PublicationListingCache.Listing.ALL, null, pageable),
+                () -> loadPage(() -> publicationRepository.findAllActive(pageable)));
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Page<PublicationResponseDTO> getPublicationsByAuthor(Long authorId, Pageable pageable) {
         log.debug("Fetching publications for author: {}", authorId);
-        return publicationRepository.findByAuthorId(authorId, pageable)
-                .map(this::enrichPublicationResponse);
+        return publicationListingCache.get(
+                PublicationListingCache.Key.of(PublicationListingCache.Listing.AUTHOR, authorId, pageable),
+                () -> loadPage(() -> publicationRepository.findByAuthorId(authorId, pageable)));
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Page<PublicationResponseDTO> getPublicationsByStatus(PublicationStatus status, Pageable pageable) {
         log.debug("Fetching publications with status: {}", status);
-        return publicationRepository.findByStatus(status, pageable)
-                .map(this::enrichPublicationResponse);
+        return publicationListingCache.get(
+                PublicationListingCache.Key.of(PublicationListingCache.Listing.STATUS, status, pageable),
+                () -> loadPage(() -> publicationRepository.findByStatus(status, pageable)));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<PublicationResponseDTO> searchPublications(String keyword, Pageable pageable) {
         log.debug("Searching publications with keyword: {}", keyword);
-        return publicationRepository.searchByKeyword(keyword, pageable)
-                .map(this::enrichPublicationResponse);
+        return enrichPage(publicationRepository.searchByKeyword(keyword, pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getPublicationById(Long id, PublicationFieldSet fieldSet) {
+        log.debug("Fetching publication with id: {} and fields: {}", id, fieldSet.getFields());
+
+        Optional<Map<String, Object>> active = publicationRepository.findProjectedById(id, withTrendingAttributes(fieldSet.getAttributes()));
+        active.filter(found -> Boolean.TRUE.equals(found.get("isActive")))
+                .ifPresent(found -> publicationTrendingTracker.recordView(id, (String) found.get("category")));
+        Map<String, Object> values = active
+                .orElseGet(() -> archivedValues(findArchived(id), fieldSet.getAttributes()));
+
+        Map<Long, PublicationResponseDTO.AuthorDTO> authors = fieldSet.isExpandAuthor()
+                ? authorSnapshotService.findAuthors(List.of((Long) values.get("authorId")))
+                : Map.of();
+        return toSparseResponse(values, fieldSet, authors);
+    }
+
+    // Las vistas parciales no pasan por la caché de listados: la consulta ya es barata y las
+    // combinaciones de campos multiplicarían las entradas
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllPublications(Pageable pageable, PublicationFieldSet fieldSet) {
+        return findSparsePage(null, null, null, pageable, fieldSet);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getPublicationsByAuthor(Long authorId, Pageable pageable, PublicationFieldSet fieldSet) {
+        return findSparsePage(authorId, null, null, pageable, fieldSet);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getPublicationsByStatus(PublicationStatus status, Pageable pageable, PublicationFieldSet fieldSet) {
+        return findSparsePage(null, status, null, pageable, fieldSet);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> searchPublications(String keyword, Pageable pageable, PublicationFieldSet fieldSet) {
+        return findSparsePage(null, null, keyword, pageable, fieldSet);
     }
 
     @Override
@@ -101,6 +201,7 @@ public class PublicationServiceImpl implements IPublicationService {
                 .orElseThrow(() -> new PublicationNotFoundException("Publication not found with id: " + id));
 
         publicationValidator.validateStatusTransition(publication.getStatus(), updateDTO.getStatus());
+        PublicationStatus previousStatus = publication.getStatus();
 
         try {
             publication.updateStatus(updateDTO.getStatus());
@@ -114,6 +215,8 @@ public class PublicationServiceImpl implements IPublicationService {
             }
             
             Publication updatedPublication = publicationRepository.save(publication);
+            publicationEventRecorder.record(PublicationEventType.STATUS_CHANGED, updatedPublication, previousStatus);
+            publicationListingCache.evict(updatedPublication.getAuthorId(), previousStatus, updatedPublication.getStatus());
             log.info("Publication status updated successfully for id: {}", id);
             return enrichPublicationResponse(updatedPublication);
 
@@ -123,6 +226,68 @@ public class PublicationServiceImpl implements IPublicationService {
         }
     }
 
+    @Override
+    public BulkStatusTransitionResultDTO bulkUpdatePublicationStatus(BulkStatusTransitionDTO bulkDTO) {
+        log.info("Bulk updating status of {} publications to: {}", bulkDTO.getIds().size(), bulkDTO.getStatus());
+
+        publicationValidator.validateBulkStatusTransition(bulkDTO);
+
+        PublicationStatus targetStatus = bulkDTO.getStatus();
+        Set<Long> ids = new LinkedHashSet<>(bulkDTO.getIds());
+        // Las eliminadas (is_active = false) cuentan como no encontradas, igual que en las lecturas
+        Map<Long, Publication> publications = publicationRepository.findAllActiveById(ids)
+                .stream()
+                .collect(Collectors.toMap(Publication::getId, Function.identity()));
+
+        List<Publication> updated = new ArrayList<>();
+        List<BulkStatusTransitionResultDTO.ItemResult> results = new ArrayList<>();
+        for (Long id : ids) {
+            Publication publication = publications.get(id);
+            if (publication == null) {
+                results.add(failedItem(id, null, "Publication not found with id: " + id));
+                continue;
+            }
+
+            PublicationStatus previousStatus = publication.getStatus();
+            if (!previousStatus.canTransitionTo(targetStatus)) {
+                results.add(failedItem(id, previousStatus,
+                        String.format("Cannot transition from %s to %s", previousStatus, targetStatus)));
+                continue;
+            }
+
+            publication.updateStatus(targetStatus);
+            if (bulkDTO.getReviewerNotes() != null) {
+                publication.setReviewerNotes(bulkDTO.getReviewerNotes());
+            }
+            if (bulkDTO.getRejectionReason() != null) {
+                publication.setRejectionReason(bulkDTO.getRejectionReason());
+            }
+            updated.add(publication);
+            publicationEventRecorder.record(PublicationEventType.STATUS_CHANGED, publication, previousStatus);
+            results.add(BulkStatusTransitionResultDTO.ItemResult.builder()
+                    .id(id)
+                    .previousStatus(previousStatus)
+                    .success(true)
+                    .build());
+        }
+
+        // Los UPDATE se agrupan en lotes JDBC (hibernate.jdbc.batch_size)
+        publicationRepository.saveAll(updated);
+        if (!updated.isEmpty()) {
+            publicationListingCache.evictAll();
+        }
+
+        log.info("Bulk status update to {} finished: {} updated, {} failed",
+                targetStatus, updated.size(), results.size() - updated.size());
+        return BulkStatusTransitionResultDTO.builder()
+                .status(targetStatus)
+                .requested(ids.size())
+                .updated(updated.size())
+                .failed(results.size() - updated.size())
+                .results(results)
+                .build();
+    }
+
     @Override
     public void deletePublication(Long id) {
         log.info("Deleting publication with id: {}", id);
@@ -132,10 +297,52 @@ public class PublicationServiceImpl implements IPublicationService {
 
         publication.setIsActive(false);
         publicationRepository.save(publication);
+        publicationEventRecorder.record(PublicationEventType.DELETED, publication, publication.getStatus());
+        publicationListingCache.evict(publication.getAuthorId(), publication.getStatus());
+        publicationTrendingTracker.forget(id, publication.getCategory());
 
         log.info("Publication soft-deleted with id: {}", id);
     }
 
+    // Ranking servido desde el sketch en memoria; una sola consulta por ids descarta las publicaciones
+    // eliminadas o movidas a almacenamiento frío desde que entraron en él
+    @Override
+    @Transactional(readOnly = true)
+    public List<TrendingPublicationDTO> getTrendingPublications(String category, int limit) {
+        if (limit < 1 || limit > publicationTrendingTracker.getTopK()) {
+            throw new PublicationValidationException(
+                    "limit must be between 1 and " + publicationTrendingTracker.getTopK());
+        }
+        List<PublicationTrendingTracker.Trending> ranking =
+                publicationTrendingTracker.top(category, publicationTrendingTracker.getTopK());
+        if (ranking.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> active = new HashSet<>(publicationRepository.findActiveIds(
+                ranking.stream().map(PublicationTrendingTracker.Trending::publicationId).toList()));
+        return ranking.stream()
+                .filter(trending -> active.contains(trending.publicationId()))
+                .limit(limit)
+                .map(trending -> TrendingPublicationDTO.builder()
+                        .id(trending.publicationId())
+                        .score(Math.round(trending.score() * 100) / 100.0)
+                        .build())
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PublicationResponseDTO> getArchivedPublications(Long authorId, Pageable pageable) {
+        log.debug("Fetching cold-storage publications for author: {}", authorId);
+        Page<ArchivedPublication> archived = authorId == null
+                ? publicationArchiveRepository.findAll(pageable)
+                : publicationArchiveRepository.findByAuthorId(authorId, pageable);
+
+        Map<Long, PublicationResponseDTO.AuthorDTO> authors = authorSnapshotService.findAuthors(
+                archived.stream().map(ArchivedPublication::getAuthorId).collect(Collectors.toSet()));
+        return archived.map(publication -> enrichArchivedResponse(publication, authors));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public long getTotalPublications() {
@@ -154,26 +361,125 @@ public class PublicationServiceImpl implements IPublicationService {
         return publicationRepository.countByAuthorId(authorId);
     }
 
-    private PublicationResponseDTO enrichPublicationResponse(Publication publication) {
-        PublicationResponseDTO dto = publicationMapper.toResponseDTO(publication);
-        dto.setSummary(publication.getSummary());
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public DashboardStatsDTO getDashboardStats() {
+        return dashboardStatsService.getDashboardStats();
+    }
 
-        // Obtener información del autor desde Authors Service
-        try {
-            AuthorServiceClient.AuthorInfo authorInfo = authorServiceClient.getAuthorById(publication.getAuthorId());
-            if (authorInfo != null) {
-                dto.setAuthor(PublicationResponseDTO.AuthorDTO.builder()
-                        .id(authorInfo.getId())
-                        .name(authorInfo.getName())
-                        .email(authorInfo.getEmail())
-                        .authorType(authorInfo.getAuthorType())
-                        .build());
+    private BulkStatusTransitionResultDTO.ItemResult failedItem(Long id, PublicationStatus previousStatus, String error) {
+        return BulkStatusTransitionResultDTO.ItemResult.builder()
+                .id(id)
+                .previousStatus(previousStatus)
+                .success(false)
+                .error(error)
+                .build();
+    }
+
+    private Page<Map<String, Object>> findSparsePage(Long authorId, PublicationStatus status, String keyword,
+                                                     Pageable pageable, PublicationFieldSet fieldSet) {
+        log.debug("Fetching publications with fields: {} (expand author: {})", fieldSet.getFields(), fieldSet.isExpandAuthor());
+        Page<Map<String, Object>> rows = publicationRepository.findActiveProjected(
+                fieldSet.getAttributes(), authorId, status, keyword, pageable);
+
+        Map<Long, PublicationResponseDTO.AuthorDTO> authors = fieldSet.isExpandAuthor()
+                ? authorSnapshotService.findAuthors(
+                        rows.stream().map(row -> (Long) row.get("authorId")).collect(Collectors.toSet()))
+                : Map.of();
+        return rows.map(row -> toSparseResponse(row, fieldSet, authors));
+    }
+
+    // Solo se serializan los campos pedidos; fechas con el mismo formato que PublicationResponseDTO
+    private Map<String, Object> toSparseResponse(Map<String, Object> values, PublicationFieldSet fieldSet,
+                                                 Map<Long, PublicationResponseDTO.AuthorDTO> authors) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        for (String field : fieldSet.getFields()) {
+            if (PublicationFieldSet.SUMMARY.equals(field)) {
+                PublicationStatus status = (PublicationStatus) values.get("status");
+                response.put(field, String.format("%s (Status: %s, Author ID: %d)",
+                        values.get("title"), status.getDescription(), (Long) values.get("authorId")));
+                continue;
             }
-        } catch (Exception e) {
-            log.warn("Could not enrich publication with author data: {}", e.getMessage());
-            // Continuamos sin datos del autor en lugar de fallar
+            Object value = values.get(field);
+            response.put(field, value instanceof LocalDateTime dateTime ? dateTime.format(DATE_TIME_FORMAT) : value);
         }
+        if (fieldSet.isExpandAuthor()) {
+            response.put(PublicationFieldSet.AUTHOR, authors.get((Long) values.get("authorId")));
+        }
+        return response;
+    }
 
+    // La categoría y el estado activo se leen siempre, aunque no se hayan pedido, para alimentar el
+    // ranking de tendencias solo con publicaciones activas
+    private List<String> withTrendingAttributes(List<String> attributes) {
+        if (attributes.contains("category") && attributes.contains("isActive")) {
+            return attributes;
+        }
+        List<String> withTrending = new ArrayList<>(attributes);
+        if (!attributes.contains("category")) {
+            withTrending.add("category");
+        }
+        if (!attributes.contains("isActive")) {
+            withTrending.add("isActive");
+        }
+        return withTrending;
+    }
+
+    private ArchivedPublication findArchived(Long id) {
+        return publicationArchiveRepository.findById(id)
+                .orElseThrow(() -> new PublicationNotFoundException("Publication not found with id: " + id));
+    }
+
+    // Mismos atributos que devolvería findProjectedById sobre la tabla caliente
+    private Map<String, Object> archivedValues(ArchivedPublication archived, List<String> attributes) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(archived);
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String attribute : attributes) {
+            values.put(attribute, wrapper.getPropertyValue(attribute));
+        }
+        return values;
+    }
+
+    private PublicationResponseDTO enrichArchivedResponse(ArchivedPublication archived,
+                                                          Map<Long, PublicationResponseDTO.AuthorDTO> authors) {
+        PublicationResponseDTO dto = publicationMapper.toResponseDTO(archived);
+        dto.setSummary(archived.getSummary());
+        dto.setAuthor(authors.get(archived.getAuthorId()));
+        return dto;
+    }
+
+    private PublicationResponseDTO enrichPublicationResponse(Publication publication) {
+        Map<Long, PublicationResponseDTO.AuthorDTO> authors =
+                authorSnapshotService.findAuthors(List.of(publication.getAuthorId()));
+        return enrichPublicationResponse(publication, authors);
+    }
+
+    // Con SUPPORTS no hay transacción abierta: sin ella la consulta de la página retiene su conexión
+    // hasta el final del método y la de snapshots pide otra, lo que agota el pool con carga concurrente.
+    // Solo lectura: sin flush ni dirty checking de las entidades de la página al cerrar
+    private Page<PublicationResponseDTO> loadPage(Supplier<Page<Publication>> query) {
+        return new TransactionTemplate(transactionTemplate.getTransactionManager(), READ_ONLY)
+                .execute(status -> enrichPage(query.get()));
+    }
+
+    // Datos del autor servidos desde el snapshot local, sin llamada a Authors Service por fila
+    private Page<PublicationResponseDTO> enrichPage(Page<Publication> publications) {
+        Map<Long, PublicationResponseDTO.AuthorDTO> authors = authorSnapshotService.findAuthors(
+                publications.stream().map(Publication::getAuthorId).collect(Collectors.toSet()));
+        return publications.map(publication -> enrichPublicationResponse(publication, authors));
+    }
+
+    private static TransactionDefinition readOnlyDefinition() {
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setReadOnly(true);
+        return definition;
+    }
+
+    private PublicationResponseDTO enrichPublicationResponse(Publication publication,
+                                                             Map<Long, PublicationResponseDTO.AuthorDTO> authors) {
+        PublicationResponseDTO dto = publicationMapper.toResponseDTO(publication);
+        dto.setSummary(publication.getSummary());
+        dto.setAuthor(authors.get(publication.getAuthorId()));
         return dto;
     }
 }
@@ -2,14 +2,19 @@ package com.editorial.publications.application.service.impl;
 
 import com.editorial.publications.domain.entity.PublicationStatus;
 import com.editorial.publications.infrastructure.exception.PublicationValidationException;
+import com.editorial.publications.presentation.dto.BulkStatusTransitionDTO;
 import com.editorial.publications.presentation.dto.CreatePublicationDTO;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
 public class PublicationValidator {
 
+    @Value("${publications.bulk.max-items:1000}")
+    private int bulkMaxItems;
+
     public void validateCreatePublication(CreatePublicationDTO createPublicationDTO) {
         log.debug("Validating create publication data: {}", createPublicationDTO.getTitle());
 
@@ -43,4 +48,20 @@ public class PublicationValidator {
 
         log.debug("Status transition validation passed");
     }
+
+    public void validateBulkStatusTransition(BulkStatusTransitionDTO bulkDTO) {
+        log.debug("Validating bulk status transition of {} publications to {}", bulkDTO.getIds().size(), bulkDTO.getStatus());
+
+        if (bulkDTO.getIds().size() > bulkMaxItems) {
+            throw new PublicationValidationException(
+                    String.format("Cannot transition more than %d publications per request", bulkMaxItems)
+            );
+        }
+
+        if (bulkDTO.getIds().stream().anyMatch(id -> id == null || id <= 0)) {
+            throw new PublicationValidationException("Publication IDs must be positive");
+        }
+
+        log.debug("Bulk status transition validation passed");
+    }
 }
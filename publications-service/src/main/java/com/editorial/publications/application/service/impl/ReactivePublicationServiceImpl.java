@@ -0,0 +1,470 @@
+package com.editorial.publications.application.service.impl;
+
+import com.editorial.publications.application.mapper.PublicationMapper;
+import com.editorial.publications.application.service.IPublicationService;
+import com.editorial.publications.application.service.IReactivePublicationService;
+import com.editorial.publications.application.service.PublicationFieldSet;
+import com.editorial.publications.domain.entity.PublicationStatus;
+import com.editorial.publications.domain.entity.r2dbc.AuthorSnapshotRow;
+import com.editorial.publications.domain.entity.r2dbc.OutboxEventRow;
+import com.editorial.publications.domain.entity.r2dbc.PublicationRow;
+import com.editorial.publications.domain.repository.r2dbc.ReactiveAuthorSnapshotRepository;
+import com.editorial.publications.domain.repository.r2dbc.ReactiveOutboxEventRepository;
+import com.editorial.publications.domain.repository.r2dbc.ReactivePublicationRepository;
+import com.editorial.publications.infrastructure.client.ActiveAuthorIndex;
+import com.editorial.publications.infrastructure.client.AuthorServiceClient;
+import com.editorial.publications.infrastructure.client.ReactiveAuthorServiceClient;
+import com.editorial.publications.infrastructure.exception.PublicationNotFoundException;
+import com.editorial.publications.infrastructure.exception.PublicationValidationException;
+import com.editorial.publications.infrastructure.outbox.PublicationEvent;
+import com.editorial.publications.infrastructure.outbox.PublicationEventType;
+import com.editorial.publications.infrastructure.trending.PublicationTrendingTracker;
+import com.editorial.publications.presentation.dto.BulkStatusTransitionDTO;
+import com.editorial.publications.presentation.dto.BulkStatusTransitionResultDTO;
+import com.editorial.publications.presentation.dto.CreatePublicationDTO;
+import com.editorial.publications.presentation.dto.DashboardStatsDTO;
+import com.editorial.publications.presentation.dto.PublicationResponseDTO;
+import com.editorial.publications.presentation.dto.TrendingPublicationDTO;
+import com.editorial.publications.presentation.dto.UpdatePublicationStatusDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Versión no bloqueante de PublicationServiceImpl: lecturas y escrituras con R2DBC y datos del autor
+// desde los snapshots locales o, si faltan, con una sola llamada por lotes a Authors Service.
+// Las operaciones poco frecuentes que solo existen sobre JPA (tabla fría, dashboard) se delegan
+// a IPublicationService en boundedElastic para no bloquear el event loop.
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Slf4j
+@AllArgsConstructor
+public class ReactivePublicationServiceImpl implements IReactivePublicationService {
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final ReactivePublicationRepository publicationRepository;
+    private final ReactiveOutboxEventRepository outboxEventRepository;
+    private final ReactiveAuthorSnapshotRepository authorSnapshotRepository;
+    private final ReactiveAuthorServiceClient authorServiceClient;
+    private final ActiveAuthorIndex activeAuthorIndex;
+    private final PublicationMapper publicationMapper;
+    private final PublicationValidator publicationValidator;
+    private final IPublicationService publicationService;
+    private final TransactionalOperator transactionalOperator;
+    private final ObjectMapper objectMapper;
+    private final PublicationTrendingTracker publicationTrendingTracker;
+    private final AuthorSnapshotService authorSnapshotService;
+
+    // El snapshot del autor no se captura aquí: se deja pendiente para el refresco programado
+    // de AuthorSnapshotService
+    @Override
+    public Mono<PublicationResponseDTO> createPublication(CreatePublicationDTO createPublicationDTO) {
+        log.info("Creating new publication with title: {}", createPublicationDTO.getTitle());
+        Long authorId = createPublicationDTO.getAuthorId();
+
+        return Mono.fromRunnable(() -> publicationValidator.validateCreatePublication(createPublicationDTO))
+                .then(Mono.defer(() -> activeAuthorIndex.containsActive(authorId)
+                        ? Mono.just(true)
+                        : authorServiceClient.authorExists(authorId)))
+                .flatMap(exists -> {
+                    if (!exists) {
+                        return Mono.error(new PublicationValidationException("Author not found with id: " + authorId));
+                    }
+                    LocalDateTime now = LocalDateTime.now();
+                    PublicationRow publication = publicationMapper.toRow(createPublicationDTO);
+                    publication.setStatus(PublicationStatus.DRAFT);
+                    publication.setIsActive(true);
+                    publication.setViewsCount(0);
+                    publication.setCreatedAt(now);
+                    publication.setUpdatedAt(now);
+                    return publicationRepository.save(publication)
+                            .flatMap(saved -> outboxEventRepository
+                                    .save(outboxEvent(PublicationEventType.CREATED, saved, null, now))
+                                    .thenReturn(saved))
+                            .as(transactionalOperator::transactional);
+                })
+                .doOnNext(saved -> {
+                    authorSnapshotService.scheduleCapture(authorId);
+                    log.info("Publication created successfully with id: {}", saved.getId());
+                })
+                .flatMap(this::enrichPublicationResponse);
+    }
+
+    @Override
+    public Mono<PublicationResponseDTO> getPublicationById(Long id) {
+        log.debug("Fetching publication with id: {}", id);
+        return publicationRepository.findById(id)
+                .doOnNext(this::recordView)
+                .flatMap(this::enrichPublicationResponse)
+                // Puede estar ya en almacenamiento frío
+                .switchIfEmpty(blocking(() -> publicationService.getPublicationById(id)));
+    }
+
+    @Override
+    public Mono<Page<PublicationResponseDTO>> getAllPublications(Pageable pageable) {
+        log.debug("Fetching all publications with pagination: {}", pageable);
+        return page(publicationRepository.findByIsActiveTrue(pageable),
+                publicationRepository.countByIsActiveTrue(), pageable, this::enrichAll);
+    }
+
+    @Override
+    public Mono<Page<PublicationResponseDTO>> getPublicationsByAuthor(Long authorId, Pageable pageable) {
+        log.debug("Fetching publications for author: {}", authorId);
+        return page(publicationRepository.findByAuthorIdAndIsActiveTrue(authorId, pageable),
+                publicationRepository.countByAuthorIdAndIsActiveTrue(authorId), pageable, this::enrichAll);
+    }
+
+    @Override
+    public Mono<Page<PublicationResponseDTO>> getPublicationsByStatus(PublicationStatus status, Pageable pageable) {
+        log.debug("Fetching publications with status: {}", status);
+        return page(publicationRepository.findByStatusAndIsActiveTrue(status, pageable),
+                publicationRepository.countByStatusAndIsActiveTrue(status), pageable, this::enrichAll);
+    }
+
+    @Override
+    public Mono<Page<PublicationResponseDTO>> searchPublications(String keyword, Pageable pageable) {
+        log.debug("Searching publications with keyword: {}", keyword);
+        return page(publicationRepository.searchByKeyword(keyword, pageable.getPageSize(), pageable.getOffset()),
+                publicationRepository.countByKeyword(keyword), pageable, this::enrichAll);
+    }
+
+    @Override
+    public Mono<Map<String, Object>> getPublicationById(Long id, PublicationFieldSet fieldSet) {
+        log.debug("Fetching publication with id: {} and fields: {}", id, fieldSet.getFields());
+        return publicationRepository.findById(id)
+                .doOnNext(this::recordView)
+                .flatMap(publication -> sparseAll(List.of(publication), fieldSet))
+                .map(responses -> responses.get(0))
+                .switchIfEmpty(blocking(() -> publicationService.getPublicationById(id, fieldSet)));
+    }
+
+    @Override
+    public Mono<Page<Map<String, Object>>> getAllPublications(Pageable pageable, PublicationFieldSet fieldSet) {
+        return page(publicationRepository.findByIsActiveTrue(pageable),
+                publicationRepository.countByIsActiveTrue(), pageable, rows -> sparseAll(rows, fieldSet));
+    }
+
+    @Override
+    public Mono<Page<Map<String, Object>>> getPublicationsByAuthor(Long authorId, Pageable pageable, PublicationFieldSet fieldSet) {
+        return page(publicationRepository.findByAuthorIdAndIsActiveTrue(authorId, pageable),
+                publicationRepository.countByAuthorIdAndIsActiveTrue(authorId), pageable, rows -> sparseAll(rows, fieldSet));
+    }
+
+    @Override
+    public Mono<Page<Map<String, Object>>> getPublicationsByStatus(PublicationStatus status, Pageable pageable, PublicationFieldSet fieldSet) {
+        return page(publicationRepository.findByStatusAndIsActiveTrue(status, pageable),
+                publicationRepository.countByStatusAndIsActiveTrue(status), pageable, rows -> sparseAll(rows, fieldSet));
+    }
+
+    @Override
+    public Mono<Page<Map<String, Object>>> searchPublications(String keyword, Pageable pageable, PublicationFieldSet fieldSet) {
+        return page(publicationRepository.searchByKeyword(keyword, pageable.getPageSize(), pageable.getOffset()),
+                publicationRepository.countByKeyword(keyword), pageable, rows -> sparseAll(rows, fieldSet));
+    }
+
+    @Override
+    public Mono<PublicationResponseDTO> updatePublicationStatus(Long id, UpdatePublicationStatusDTO updateDTO) {
+        log.info("Updating publication status for id: {} to: {}", id, updateDTO.getStatus());
+
+        return publicationRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new PublicationNotFoundException("Publication not found with id: " + id)))
+                .flatMap(publication -> {
+                    publicationValidator.validateStatusTransition(publication.getStatus(), updateDTO.getStatus());
+                    PublicationStatus previousStatus = publication.getStatus();
+                    LocalDateTime now = LocalDateTime.now();
+
+                    publication.updateStatus(updateDTO.getStatus());
+                    if (updateDTO.getReviewerNotes() != null) {
+                        publication.setReviewerNotes(updateDTO.getReviewerNotes());
+                    }
+                    if (updateDTO.getRejectionReason() != null) {
+                        publication.setRejectionReason(updateDTO.getRejectionReason());
+                    }
+                    publication.setUpdatedAt(now);
+
+                    return publicationRepository.save(publication)
+                            .flatMap(saved -> outboxEventRepository
+                                    .save(outboxEvent(PublicationEventType.STATUS_CHANGED, saved, previousStatus, now))
+                                    .thenReturn(saved));
+                })
+                .as(transactionalOperator::transactional)
+                .doOnNext(saved -> log.info("Publication status updated successfully for id: {}", id))
+                .flatMap(this::enrichPublicationResponse);
+    }
+
+    @Override
+    public Mono<BulkStatusTransitionResultDTO> bulkUpdatePublicationStatus(BulkStatusTransitionDTO bulkDTO) {
+        log.info("Bulk updating status of {} publications to: {}", bulkDTO.getIds().size(), bulkDTO.getStatus());
+
+        PublicationStatus targetStatus = bulkDTO.getStatus();
+        Set<Long> ids = new LinkedHashSet<>(bulkDTO.getIds());
+
+        return Mono.fromRunnable(() -> publicationValidator.validateBulkStatusTransition(bulkDTO))
+                .then(publicationRepository.findByIdInAndIsActiveTrue(ids).collectMap(PublicationRow::getId))
+                .flatMap(publications -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    List<PublicationRow> updated = new ArrayList<>();
+                    List<OutboxEventRow> events = new ArrayList<>();
+                    List<BulkStatusTransitionResultDTO.ItemResult> results = new ArrayList<>();
+                    for (Long id : ids) {
+                        PublicationRow publication = publications.get(id);
+                        if (publication == null) {
+                            results.add(failedItem(id, null, "Publication not found with id: " + id));
+                            continue;
+                        }
+
+                        PublicationStatus previousStatus = publication.getStatus();
+                        if (!previousStatus.canTransitionTo(targetStatus)) {
+                            results.add(failedItem(id, previousStatus,
+                                    String.format("Cannot transition from %s to %s", previousStatus, targetStatus)));
+                            continue;
+                        }
+
+                        publication.updateStatus(targetStatus);
+                        if (bulkDTO.getReviewerNotes() != null) {
+                            publication.setReviewerNotes(bulkDTO.getReviewerNotes());
+                        }
+                        if (bulkDTO.getRejectionReason() != null) {
+                            publication.setRejectionReason(bulkDTO.getRejectionReason());
+                        }
+                        publication.setUpdatedAt(now);
+                        updated.add(publication);
+                        events.add(outboxEvent(PublicationEventType.STATUS_CHANGED, publication, previousStatus, now));
+                        results.add(BulkStatusTransitionResultDTO.ItemResult.builder()
+                                .id(id)
+                                .previousStatus(previousStatus)
+                                .success(true)
+                                .build());
+                    }
+
+                    log.info("Bulk status update to {} finished: {} updated, {} failed",
+                            targetStatus, updated.size(), results.size() - updated.size());
+                    BulkStatusTransitionResultDTO result = BulkStatusTransitionResultDTO.builder()
+                            .status(targetStatus)
+                            .requested(ids.size())
+                            .updated(updated.size())
+                            .failed(results.size() - updated.size())
+                            .results(results)
+                            .build();
+                    return publicationRepository.saveAll(updated)
+                            .thenMany(outboxEventRepository.saveAll(events))
+                            .then(Mono.just(result));
+                })
+                .as(transactionalOperator::transactional);
+    }
+
+    @Override
+    public Mono<Void> deletePublication(Long id) {
+        log.info("Deleting publication with id: {}", id);
+
+        return publicationRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new PublicationNotFoundException("Publication not found with id: " + id)))
+                .flatMap(publication -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    publication.setIsActive(false);
+                    publication.setUpdatedAt(now);
+                    return publicationRepository.save(publication)
+                            .flatMap(saved -> outboxEventRepository
+                                    .save(outboxEvent(PublicationEventType.DELETED, saved, saved.getStatus(), now))
+                                    .thenReturn(saved));
+                })
+                .as(transactionalOperator::transactional)
+                .doOnNext(deleted -> {
+                    publicationTrendingTracker.forget(id, deleted.getCategory());
+                    log.info("Publication soft-deleted with id: {}", id);
+                })
+                .then();
+    }
+
+    @Override
+    public Mono<Page<PublicationResponseDTO>> getArchivedPublications(Long authorId, Pageable pageable) {
+        return blocking(() -> publicationService.getArchivedPublications(authorId, pageable));
+    }
+
+    @Override
+    public Mono<List<TrendingPublicationDTO>> getTrendingPublications(String category, int limit) {
+        return blocking(() -> publicationService.getTrendingPublications(category, limit));
+    }
+
+    @Override
+    public Mono<Long> getTotalPublications() {
+        return publicationRepository.countByIsActiveTrue();
+    }
+
+    @Override
+    public Mono<Long> getTotalPublicationsByStatus(PublicationStatus status) {
+        return publicationRepository.countByStatusAndIsActiveTrue(status);
+    }
+
+    @Override
+    public Mono<Long> getTotalPublicationsByAuthor(Long authorId) {
+        return publicationRepository.countByAuthorIdAndIsActiveTrue(authorId);
+    }
+
+    @Override
+    public Mono<DashboardStatsDTO> getDashboardStats() {
+        return blocking(publicationService::getDashboardStats);
+    }
+
+    // findById también devuelve las eliminadas, que no deben volver al ranking
+    private void recordView(PublicationRow publication) {
+        if (Boolean.TRUE.equals(publication.getIsActive())) {
+            publicationTrendingTracker.recordView(publication.getId(), publication.getCategory());
+        }
+    }
+
+    private <T> Mono<T> blocking(java.util.concurrent.Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private <T> Mono<Page<T>> page(Flux<PublicationRow> rows, Mono<Long> total, Pageable pageable,
+                                   Function<List<PublicationRow>, Mono<List<T>>> toContent) {
+        return Mono.zip(rows.collectList(), total)
+                .flatMap(result -> toContent.apply(result.getT1())
+                        .map(content -> new PageImpl<>(content, pageable, result.getT2())));
+    }
+
+    private Mono<PublicationResponseDTO> enrichPublicationResponse(PublicationRow publication) {
+        return enrichAll(List.of(publication)).map(responses -> responses.get(0));
+    }
+
+    private Mono<List<PublicationResponseDTO>> enrichAll(List<PublicationRow> publications) {
+        return findAuthors(publications.stream().map(PublicationRow::getAuthorId).collect(Collectors.toSet()))
+                .map(authors -> publications.stream()
+                        .map(publication -> {
+                            PublicationResponseDTO dto = publicationMapper.toResponseDTO(publication);
+                            dto.setSummary(publication.getSummary());
+                            dto.setAuthor(authors.get(publication.getAuthorId()));
+                            return dto;
+                        })
+                        .toList());
+    }
+
+    // Las vistas parciales leen la fila completa (R2DBC no proyecta columnas dinámicas) pero
+    // solo serializan los campos pedidos y solo buscan autores con expand=author
+    private Mono<List<Map<String, Object>>> sparseAll(List<PublicationRow> publications, PublicationFieldSet fieldSet) {
+        Mono<Map<Long, PublicationResponseDTO.AuthorDTO>> authors = fieldSet.isExpandAuthor()
+                ? findAuthors(publications.stream().map(PublicationRow::getAuthorId).collect(Collectors.toSet()))
+                : Mono.just(Map.of());
+        return authors.map(found -> publications.stream()
+                .map(publication -> toSparseResponse(publication, fieldSet, found))
+                .toList());
+    }
+
+    private Map<String, Object> toSparseResponse(PublicationRow publication, PublicationFieldSet fieldSet,
+                                                 Map<Long, PublicationResponseDTO.AuthorDTO> authors) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(publication);
+        Map<String, Object> response = new LinkedHashMap<>();
+        for (String field : fieldSet.getFields()) {
+            Object value = wrapper.getPropertyValue(field);
+            response.put(field, value instanceof LocalDateTime dateTime ? dateTime.format(DATE_TIME_FORMAT) : value);
+        }
+        if (fieldSet.isExpandAuthor()) {
+            response.put(PublicationFieldSet.AUTHOR, authors.get(publication.getAuthorId()));
+        }
+        return response;
+    }
+
+    // Snapshots locales primero; los que falten se piden en una sola llamada a /summaries
+    private Mono<Map<Long, PublicationResponseDTO.AuthorDTO>> findAuthors(Collection<Long> authorIds) {
+        Set<Long> ids = authorIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return authorSnapshotRepository.findAllById(ids)
+                .collectMap(AuthorSnapshotRow::getAuthorId, this::toAuthorDTO, HashMap::new)
+                .flatMap(authors -> {
+                    Set<Long> missing = new HashSet<>(ids);
+                    missing.removeAll(authors.keySet());
+                    if (missing.isEmpty()) {
+                        return Mono.just(authors);
+                    }
+                    authorSnapshotService.scheduleCaptures(missing);
+                    return authorServiceClient.getAuthorsByIds(missing)
+                            .doOnNext(author -> authors.put(author.getId(), toAuthorDTO(author)))
+                            .then(Mono.just(authors))
+                            .onErrorResume(e -> {
+                                log.warn("Could not enrich publications with author data: {}", e.getMessage());
+                                return Mono.just(authors);
+                            });
+                });
+    }
+
+    private OutboxEventRow outboxEvent(PublicationEventType type, PublicationRow publication,
+                                       PublicationStatus previousStatus, LocalDateTime now) {
+        PublicationEvent event = PublicationEvent.builder()
+                .type(type)
+                .publicationId(publication.getId())
+                .authorId(publication.getAuthorId())
+                .previousStatus(previousStatus)
+                .status(publication.getStatus())
+                .occurredAt(now)
+                .build();
+
+        try {
+            return OutboxEventRow.builder()
+                    .aggregateId(publication.getId())
+                    .eventType(type.name())
+                    .payload(objectMapper.writeValueAsString(event))
+                    .createdAt(now)
+                    .nextAttemptAt(now)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize publication event", e);
+        }
+    }
+
+    private BulkStatusTransitionResultDTO.ItemResult failedItem(Long id, PublicationStatus previousStatus, String error) {
+        return BulkStatusTransitionResultDTO.ItemResult.builder()
+                .id(id)
+                .previousStatus(previousStatus)
+                .success(false)
+                .error(error)
+                .build();
+    }
+
+    private PublicationResponseDTO.AuthorDTO toAuthorDTO(AuthorSnapshotRow snapshot) {
+        return PublicationResponseDTO.AuthorDTO.builder()
+                .id(snapshot.getAuthorId())
+                .name(snapshot.getName())
+                .email(snapshot.getEmail())
+                .authorType(snapshot.getAuthorType())
+                .build();
+    }
+
+    private PublicationResponseDTO.AuthorDTO toAuthorDTO(AuthorServiceClient.AuthorInfo author) {
+        return PublicationResponseDTO.AuthorDTO.builder()
+                .id(author.getId())
+                .name(author.getName())
+                .email(author.getEmail())
+                .authorType(author.getAuthorType())
+                .build();
+    }
+}
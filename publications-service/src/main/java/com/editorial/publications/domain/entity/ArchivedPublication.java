@@ -0,0 +1,78 @@
+package com.editorial.publications.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Publicación archivada o eliminada movida a almacenamiento frío. Solo lectura: las filas se
+// insertan con INSERT ... SELECT desde publications y conservan su id original.
+@Entity
+@Table(name = "publications_archive")
+@org.hibernate.annotations.Immutable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedPublication {
+
+    @Id
+    private Long id;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(name = "is_active", nullable = false)
+    private Boolean isActive;
+
+    @Column(name = "title", nullable = false, length = 500)
+    private String title;
+
+    @Column(name = "description", length = 2000)
+    private String description;
+
+    @Column(name = "content", columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private PublicationStatus status;
+
+    @Column(name = "keywords", length = 500)
+    private String keywords;
+
+    @Column(name = "category", length = 100)
+    private String category;
+
+    @Column(name = "language", length = 50)
+    private String language;
+
+    @Column(name = "views_count")
+    private Integer viewsCount;
+
+    @Column(name = "reviewer_notes", length = 1000)
+    private String reviewerNotes;
+
+    @Column(name = "rejection_reason", length = 1000)
+    private String rejectionReason;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    public String getSummary() {
+        return String.format("%s (Status: %s, Author ID: %d)",
+                this.title, this.status.getDescription(), this.authorId);
+    }
+}
@@ -9,11 +9,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "publications", indexes = {
-        @Index(name = "idx_author_id", columnList = "author_id"),
-        @Index(name = "idx_status", columnList = "status"),
-        @Index(name = "idx_created_at", columnList = "created_at")
-})
+@Table(name = "publications")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,30 @@
+package com.editorial.publications.domain.entity.r2dbc;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+// Lectura de los snapshots de autor para enriquecer respuestas en el modo reactivo
+@Table("author_snapshots")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuthorSnapshotRow {
+
+    @Id
+    private Long authorId;
+
+    private String name;
+
+    private String email;
+
+    private String authorType;
+
+    private LocalDateTime refreshedAt;
+}
@@ -0,0 +1,39 @@
+package com.editorial.publications.domain.entity.r2dbc;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+// Solo se inserta desde el modo reactivo; OutboxRelay sigue leyendo la tabla con JPA
+@Table("outbox_events")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEventRow {
+
+    @Id
+    private Long id;
+
+    private Long aggregateId;
+
+    private String eventType;
+
+    private String payload;
+
+    private LocalDateTime createdAt;
+
+    @Builder.Default
+    private Integer attempts = 0;
+
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime deliveredAt;
+
+    private String lastError;
+}
@@ -0,0 +1,71 @@
+package com.editorial.publications.domain.entity.r2dbc;
+
+import com.editorial.publications.domain.entity.PublicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+// Fila de publications para el modo reactivo (R2DBC). Mismas columnas que Publication;
+// sin callbacks de JPA, así que las fechas se asignan en ReactivePublicationServiceImpl.
+@Table("publications")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PublicationRow {
+
+    @Id
+    private Long id;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime publishedAt;
+
+    private Boolean isActive;
+
+    private String title;
+
+    private String description;
+
+    private String content;
+
+    private Long authorId;
+
+    private PublicationStatus status;
+
+    private String keywords;
+
+    private String category;
+
+    private String language;
+
+    private Integer viewsCount;
+
+    private String reviewerNotes;
+
+    private String rejectionReason;
+
+    public String getSummary() {
+        return String.format("%s (Status: %s, Author ID: %d)",
+                this.title, this.status.getDescription(), this.authorId);
+    }
+
+    public void updateStatus(PublicationStatus newStatus) {
+        if (!this.status.canTransitionTo(newStatus)) {
+            throw new IllegalStateException(
+                    String.format("Cannot transition from %s to %s", this.status, newStatus)
+            );
+        }
+        this.status = newStatus;
+        if (newStatus == PublicationStatus.PUBLISHED) {
+            this.publishedAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.editorial.publications.domain.repository;
+
+import com.editorial.publications.domain.entity.AuthorSnapshot;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AuthorSnapshotRepository extends JpaRepository<AuthorSnapshot, Long> {
+
+    @Query("SELECT s.authorId FROM AuthorSnapshot s WHERE s.refreshedAt < :before ORDER BY s.refreshedAt")
+    List<Long> findStaleAuthorIds(@Param("before") LocalDateTime before, Pageable pageable);
+}
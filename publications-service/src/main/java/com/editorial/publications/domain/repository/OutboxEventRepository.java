@@ -0,0 +1,69 @@
+package com.editorial.publications.domain.repository;
+
+import com.editorial.publications.domain.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Publicaciones con algún evento esperando su reintento: sus eventos posteriores también esperan
+    @Query("SELECT DISTINCT e.aggregateId FROM OutboxEvent e WHERE e.deliveredAt IS NULL AND e.failedAt IS NULL " +
+            "AND e.nextAttemptAt > :now")
+    List<Long> findWaitingAggregateIds(@Param("now") LocalDateTime now);
+
+    @Query("SELECT e FROM OutboxEvent e WHERE e.deliveredAt IS NULL AND e.failedAt IS NULL " +
+            "AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now) ORDER BY e.id")
+    List<OutboxEvent> findPending(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT e FROM OutboxEvent e WHERE e.deliveredAt IS NULL AND e.failedAt IS NULL " +
+            "AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now) AND e.aggregateId NOT IN :waiting ORDER BY e.id")
+    List<OutboxEvent> findPendingExcluding(@Param("now") LocalDateTime now,
+                                           @Param("waiting") Collection<Long> waitingAggregateIds,
+                                           Pageable pageable);
+
+    // Solo una réplica reclama lotes a la vez; se libera con el commit de la transacción
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('outbox_events'))", nativeQuery = true)
+    boolean tryLockClaim();
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.nextAttemptAt = :until WHERE e.id IN :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("until") LocalDateTime until);
+
+    @Query("SELECT COUNT(e) FROM OutboxEvent e WHERE e.deliveredAt IS NULL AND e.failedAt IS NULL")
+    long countPending();
+
+    @Query("SELECT COUNT(e) FROM OutboxEvent e WHERE e.failedAt IS NOT NULL")
+    long countFailed();
+
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e WHERE e.deliveredAt IS NULL AND e.failedAt IS NULL")
+    LocalDateTime findOldestPendingCreatedAt();
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.deliveredAt = :now, e.lastError = NULL WHERE e.id IN :ids")
+    int markDelivered(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt, " +
+            "e.lastError = :error WHERE e.id IN :ids")
+    int markRetry(@Param("ids") Collection<Long> ids,
+                  @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                  @Param("error") String error);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.failedAt = :now, e.lastError = :error " +
+            "WHERE e.id IN :ids")
+    int markFailed(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now, @Param("error") String error);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.deliveredAt < :before")
+    int deleteDeliveredBefore(@Param("before") LocalDateTime before);
+}
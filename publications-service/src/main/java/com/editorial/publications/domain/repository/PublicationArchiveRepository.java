@@ -0,0 +1,31 @@
+package com.editorial.publications.domain.repository;
+
+import com.editorial.publications.domain.entity.ArchivedPublication;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PublicationArchiveRepository extends JpaRepository<ArchivedPublication, Long> {
+
+    @Query("SELECT a FROM ArchivedPublication a WHERE a.authorId = :authorId")
+    Page<ArchivedPublication> findByAuthorId(@Param("authorId") Long authorId, Pageable pageable);
+
+    // Copia en bloque; ON CONFLICT hace que reintentar un lote a medio mover sea inocuo
+    @Modifying
+    @Query(value = "INSERT INTO publications_archive (id, created_at, updated_at, published_at, is_active, title, " +
+            "description, content, author_id, status, keywords, category, language, views_count, reviewer_notes, " +
+            "rejection_reason, archived_at) " +
+            "SELECT id, created_at, updated_at, published_at, is_active, title, description, content, author_id, " +
+            "status, keywords, category, language, views_count, reviewer_notes, rejection_reason, :now " +
+            "FROM publications WHERE id IN (:ids) " +
+            "ON CONFLICT (id) DO NOTHING", nativeQuery = true)
+    int copyFromPublications(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+}
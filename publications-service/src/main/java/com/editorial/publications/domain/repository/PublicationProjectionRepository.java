@@ -0,0 +1,21 @@
+package com.editorial.publications.domain.repository;
+
+import com.editorial.publications.domain.entity.PublicationStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface PublicationProjectionRepository {
+
+    Optional<Map<String, Object>> findProjectedById(Long id, List<String> attributes);
+
+    // Filtros opcionales (null = sin filtro); siempre restringido a publicaciones activas
+    Page<Map<String, Object>> findActiveProjected(List<String> attributes,
+                                                  Long authorId,
+                                                  PublicationStatus status,
+                                                  String keyword,
+                                                  Pageable pageable);
+}
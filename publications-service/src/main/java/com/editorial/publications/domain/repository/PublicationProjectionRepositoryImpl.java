@@ -0,0 +1,113 @@
+package com.editorial.publications.domain.repository;
+
+import com.editorial.publications.domain.entity.Publication;
+import com.editorial.publications.domain.entity.PublicationStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Consultas por tuplas: solo se leen de la base de datos las columnas pedidas por el cliente
+class PublicationProjectionRepositoryImpl implements PublicationProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Map<String, Object>> findProjectedById(Long id, List<String> attributes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Publication> root = query.from(Publication.class);
+        query.multiselect(selections(root, attributes))
+                .where(cb.equal(root.get("id"), id));
+
+        return entityManager.createQuery(query)
+                .getResultList()
+                .stream()
+                .findFirst()
+                .map(PublicationProjectionRepositoryImpl::toMap);
+    }
+
+    @Override
+    public Page<Map<String, Object>> findActiveProjected(List<String> attributes,
+                                                         Long authorId,
+                                                         PublicationStatus status,
+                                                         String keyword,
+                                                         Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Publication> root = query.from(Publication.class);
+        query.multiselect(selections(root, attributes))
+                .where(filters(cb, root, authorId, status, keyword));
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        List<Map<String, Object>> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList()
+                .stream()
+                .map(PublicationProjectionRepositoryImpl::toMap)
+                .toList();
+
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<Publication> countRoot = countQuery.from(Publication.class);
+        countQuery.select(cb.count(countRoot))
+                .where(filters(cb, countRoot, authorId, status, keyword));
+        long total = entityManager.createQuery(countQuery).getSingleResult();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private static List<Selection<?>> selections(Root<Publication> root, List<String> attributes) {
+        List<Selection<?>> selections = new ArrayList<>(attributes.size());
+        for (String attribute : attributes) {
+            selections.add(root.get(attribute).alias(attribute));
+        }
+        return selections;
+    }
+
+    private static Predicate[] filters(CriteriaBuilder cb, Root<Publication> root,
+                                       Long authorId, PublicationStatus status, String keyword) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.isTrue(root.get("isActive")));
+        if (authorId != null) {
+            predicates.add(cb.equal(root.get("authorId"), authorId));
+        }
+        if (status != null) {
+            predicates.add(cb.equal(root.get("status"), status));
+        }
+        if (keyword != null) {
+            String pattern = "%" + keyword.toLowerCase() + "%";
+            predicates.add(cb.or(
+                    cb.like(cb.lower(root.get("title")), pattern),
+                    cb.like(cb.lower(root.get("description")), pattern)));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    private static Map<String, Object> toMap(Tuple tuple) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (TupleElement<?> element : tuple.getElements()) {
+            values.put(element.getAlias(), tuple.get(element));
+        }
+        return values;
+    }
+}
@@ -5,14 +5,17 @@ import com.editorial.publications.domain.entity.PublicationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface PublicationRepository extends JpaRepository<Publication, Long> {
+public interface PublicationRepository extends JpaRepository<Publication, Long>, PublicationProjectionRepository {
 
     @Query("SELECT p FROM Publication p WHERE p.isActive = true")
     Page<Publication> findAllActive(Pageable pageable);
@@ -37,6 +40,44 @@ public interface PublicationRepository extends JpaRepository<Publication, Long>
     @Query("SELECT COUNT(p) FROM Publication p WHERE p.status = :status AND p.isActive = true")
     long countByStatus(@Param("status") PublicationStatus status);
 
+    @Query("SELECT p.id FROM Publication p WHERE p.id IN :ids AND p.isActive = true")
+    List<Long> findActiveIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p FROM Publication p WHERE p.id IN :ids AND p.isActive = true")
+    List<Publication> findAllActiveById(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT COUNT(p) FROM Publication p WHERE p.isActive = true")
     long countActive();
+
+    @Query("SELECT p.status, COUNT(p) FROM Publication p WHERE p.isActive = true GROUP BY p.status")
+    List<Object[]> countActiveGroupedByStatus();
+
+    // Devuelve pares [id, authorId]: basta para los eventos de archivado sin recargar las filas
+    @Query("SELECT p.id, p.authorId FROM Publication p WHERE p.status = :status AND p.publishedAt < :before " +
+            "AND p.isActive = true AND p.id > :afterId ORDER BY p.id")
+    List<Object[]> findIdsByStatusPublishedBefore(@Param("status") PublicationStatus status,
+                                              @Param("before") LocalDateTime before,
+                                              @Param("afterId") Long afterId,
+                                              Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Publication p SET p.status = :to, p.updatedAt = :now WHERE p.id IN :ids AND p.status = :from")
+    int transitionStatus(@Param("ids") List<Long> ids,
+                         @Param("from") PublicationStatus from,
+                         @Param("to") PublicationStatus to,
+                         @Param("now") LocalDateTime now);
+
+    @Query("SELECT p.id FROM Publication p WHERE (p.isActive = false OR " +
+            "p.status = com.editorial.publications.domain.entity.PublicationStatus.ARCHIVED) " +
+            "AND p.updatedAt < :before AND p.id > :afterId ORDER BY p.id")
+    List<Long> findColdIds(@Param("before") LocalDateTime before, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Publication p WHERE p.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    // NOT EXISTS se resuelve como anti join sobre idx_author_id y la clave de author_snapshots
+    @Query("SELECT DISTINCT p.authorId FROM Publication p WHERE NOT EXISTS " +
+            "(SELECT 1 FROM AuthorSnapshot s WHERE s.authorId = p.authorId)")
+    List<Long> findAuthorIdsWithoutSnapshot(Pageable pageable);
 }
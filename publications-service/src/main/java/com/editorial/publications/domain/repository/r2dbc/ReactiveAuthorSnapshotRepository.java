@@ -0,0 +1,9 @@
+package com.editorial.publications.domain.repository.r2dbc;
+
+import com.editorial.publications.domain.entity.r2dbc.AuthorSnapshotRow;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReactiveAuthorSnapshotRepository extends R2dbcRepository<AuthorSnapshotRow, Long> {
+}
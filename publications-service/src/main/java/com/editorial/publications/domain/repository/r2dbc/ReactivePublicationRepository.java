@@ -0,0 +1,45 @@
+package com.editorial.publications.domain.repository.r2dbc;
+
+import com.editorial.publications.domain.entity.PublicationStatus;
+import com.editorial.publications.domain.entity.r2dbc.PublicationRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+// Equivalente reactivo de las lecturas de PublicationRepository; el Pageable aplica LIMIT/OFFSET y orden
+@Repository
+public interface ReactivePublicationRepository extends R2dbcRepository<PublicationRow, Long> {
+
+    Flux<PublicationRow> findByIsActiveTrue(Pageable pageable);
+
+    Flux<PublicationRow> findByAuthorIdAndIsActiveTrue(Long authorId, Pageable pageable);
+
+    Flux<PublicationRow> findByStatusAndIsActiveTrue(PublicationStatus status, Pageable pageable);
+
+    Flux<PublicationRow> findByIdInAndIsActiveTrue(Collection<Long> ids);
+
+    @Query("SELECT * FROM publications WHERE is_active = true AND " +
+            "(LOWER(title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+            "ORDER BY id LIMIT :limit OFFSET :offset")
+    Flux<PublicationRow> searchByKeyword(@Param("keyword") String keyword,
+                                         @Param("limit") int limit,
+                                         @Param("offset") long offset);
+
+    @Query("SELECT COUNT(*) FROM publications WHERE is_active = true AND " +
+            "(LOWER(title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+    Mono<Long> countByKeyword(@Param("keyword") String keyword);
+
+    Mono<Long> countByIsActiveTrue();
+
+    Mono<Long> countByAuthorIdAndIsActiveTrue(Long authorId);
+
+    Mono<Long> countByStatusAndIsActiveTrue(PublicationStatus status);
+}
@@ -0,0 +1,110 @@
+package com.editorial.publications.infrastructure.cache;
+
+import com.editorial.publications.domain.entity.PublicationStatus;
+import com.editorial.publications.presentation.dto.PublicationResponseDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+// Caché local de cada réplica: las invalidaciones no se propagan, así que las escrituras hechas en otra
+// réplica solo se ven aquí cuando caduca la entrada (ttl)
+@Component
+@Slf4j
+public class PublicationListingCache {
+
+    public enum Listing {
+        ALL, STATUS, AUTHOR
+    }
+
+    public record Key(Listing listing, String filter, int page, int size, String sort) {
+
+        public static Key of(Listing listing, Object filter, Pageable pageable) {
+            return new Key(listing, filter == null ? null : filter.toString(),
+                    pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString());
+        }
+    }
+
+    private final Cache<Key, Page<PublicationResponseDTO>> cache;
+
+    // Cualquier invalidación incrementa la generación; una carga que la ve cambiar no se almacena
+    private final AtomicLong generation = new AtomicLong();
+
+    public PublicationListingCache(MeterRegistry meterRegistry,
+                                   @Value("${publications.listing-cache.max-size:1000}") long maxSize,
+                                   @Value("${publications.listing-cache.ttl:60000}") long ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "publications.listing");
+    }
+
+    public Page<PublicationResponseDTO> get(Key key, Supplier<Page<PublicationResponseDTO>> loader) {
+        Page<PublicationResponseDTO> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadGeneration = generation.get();
+        Page<PublicationResponseDTO> page = loader.get();
+        if (loadGeneration == generation.get()) {
+            cache.put(key, page);
+        }
+        return page;
+    }
+
+    public void evict(Long authorId, PublicationStatus... statuses) {
+        afterCommit(() -> evictMatching(key -> switch (key.listing()) {
+            case ALL -> true;
+            case AUTHOR -> Objects.equals(key.filter(), String.valueOf(authorId));
+            case STATUS -> matchesAny(key.filter(), statuses);
+        }));
+    }
+
+    public void evictAll() {
+        afterCommit(() -> evictMatching(key -> true));
+    }
+
+    private void evictMatching(Predicate<Key> predicate) {
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(predicate);
+        log.debug("Publication listing cache invalidated, {} entries remaining", cache.estimatedSize());
+    }
+
+    private boolean matchesAny(String filter, PublicationStatus... statuses) {
+        for (PublicationStatus status : statuses) {
+            if (status != null && status.name().equals(filter)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
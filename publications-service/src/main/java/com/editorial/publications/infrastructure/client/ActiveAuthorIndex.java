@@ -0,0 +1,149 @@
+package com.editorial.publications.infrastructure.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@Slf4j
+public class ActiveAuthorIndex {
+
+    @Value("${publications.author-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${publications.author-index.max-staleness:30000}")
+    private long maxStaleness;
+
+    // Margen de solape entre deltas para no perder cambios con marca de tiempo anterior al commit
+    @Value("${publications.author-index.delta-overlap:5000}")
+    private long deltaOverlap;
+
+    private final AuthorServiceClient authorServiceClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter localHits;
+    private final Counter remoteChecks;
+
+    // Copia inmutable: cada refresco construye un bitmap nuevo y lo publica de forma atómica
+    private volatile RoaringBitmap activeIds;
+    private volatile LocalDateTime asOf;
+    private volatile long lastRefreshMillis;
+
+    public ActiveAuthorIndex(AuthorServiceClient authorServiceClient,
+                             ApplicationEventPublisher eventPublisher,
+                             MeterRegistry meterRegistry) {
+        this.authorServiceClient = authorServiceClient;
+        this.eventPublisher = eventPublisher;
+        this.localHits = Counter.builder("authors.index.checks").tag("result", "local").register(meterRegistry);
+        this.remoteChecks = Counter.builder("authors.index.checks").tag("result", "remote").register(meterRegistry);
+        Gauge.builder("authors.index.cardinality", this, index -> index.activeIds == null ? 0 : index.activeIds.getLongCardinality())
+                .register(meterRegistry);
+        Gauge.builder("authors.index.size.bytes", this, index -> index.activeIds == null ? 0 : index.activeIds.getSizeInBytes())
+                .register(meterRegistry);
+        Gauge.builder("authors.index.age.seconds", this, index -> index.lastRefreshMillis == 0 ? -1
+                        : (System.currentTimeMillis() - index.lastRefreshMillis) / 1000.0)
+                .register(meterRegistry);
+    }
+
+    public boolean authorExists(Long authorId) {
+        if (containsActive(authorId)) {
+            return true;
+        }
+        return authorServiceClient.authorExists(authorId);
+    }
+
+    // Solo consulta el índice local; false significa que hay que confirmar en remoto
+    // (índice desactualizado o autor aún no replicado, p. ej. recién creado)
+    public boolean containsActive(Long authorId) {
+        RoaringBitmap current = activeIds;
+        if (enabled && current != null && !isStale() && authorId != null && authorId > 0 && authorId <= Integer.MAX_VALUE
+                && current.contains(authorId.intValue())) {
+            localHits.increment();
+            return true;
+        }
+        remoteChecks.increment();
+        return false;
+    }
+
+    public boolean isStale() {
+        return System.currentTimeMillis() - lastRefreshMillis > maxStaleness;
+    }
+
+    @Scheduled(fixedDelayString = "${publications.author-index.full-refresh-interval:600000}",
+            initialDelayString = "${publications.author-index.initial-delay:5000}")
+    public synchronized void refreshSnapshot() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            AuthorServiceClient.ActiveAuthorIds snapshot = authorServiceClient.fetchActiveAuthorIds();
+            RoaringBitmap bitmap = new RoaringBitmap();
+            bitmap.deserialize(new DataInputStream(new ByteArrayInputStream(snapshot.getBitmap())));
+
+            activeIds = bitmap;
+            asOf = snapshot.getAsOf();
+            lastRefreshMillis = System.currentTimeMillis();
+            log.info("Active author index loaded with {} ids ({} bytes)",
+                    bitmap.getLongCardinality(), bitmap.getSizeInBytes());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not load active author index: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${publications.author-index.delta-refresh-interval:5000}",
+            initialDelayString = "${publications.author-index.initial-delay:5000}")
+    public synchronized void refreshDelta() {
+        if (!enabled) {
+            return;
+        }
+        RoaringBitmap current = activeIds;
+        if (current == null) {
+            refreshSnapshot();
+            return;
+        }
+        try {
+            AuthorServiceClient.AuthorIdChanges changes = authorServiceClient.fetchAuthorIdChanges(
+                    asOf.minus(Duration.ofMillis(deltaOverlap)));
+
+            RoaringBitmap updated = current.clone();
+            List<Long> changedIds = new ArrayList<>();
+            for (Long id : changes.getActivated()) {
+                if (id <= Integer.MAX_VALUE) {
+                    updated.add(id.intValue());
+                }
+                changedIds.add(id);
+            }
+            for (Long id : changes.getDeactivated()) {
+                if (id <= Integer.MAX_VALUE) {
+                    updated.remove(id.intValue());
+                }
+                changedIds.add(id);
+            }
+            updated.runOptimize();
+
+            activeIds = updated;
+            asOf = changes.getAsOf();
+            lastRefreshMillis = System.currentTimeMillis();
+
+            if (!changedIds.isEmpty()) {
+                log.debug("Active author index updated with {} changes", changedIds.size());
+                eventPublisher.publishEvent(new AuthorsChangedEvent(changedIds));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh active author index: {}", e.getMessage());
+        }
+    }
+}
@@ -10,9 +10,19 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Component
 @Slf4j
 public class AuthorServiceClient {
@@ -23,6 +33,9 @@ public class AuthorServiceClient {
     @Value("${authors.service.timeout:5000}")
     private long timeout;
 
+    @Value("${authors.service.binary-encoding:true}")
+    private boolean binaryEncoding;
+
     private final RestTemplate restTemplate;
 
     public AuthorServiceClient(RestTemplate restTemplate) {
@@ -31,10 +44,11 @@ public class AuthorServiceClient {
 
     public AuthorInfo getAuthorById(Long authorId) {
         try {
-            String url = authorsServiceUrl + "/api/v1/authors/" + authorId;
+            String url = authorsServiceUrl + "/api/v1/authors/" + authorId + "/summary";
             log.debug("Calling Authors Service: {}", url);
 
-            ResponseEntity<AuthorResponse> response = restTemplate.getForEntity(url, AuthorResponse.class);
+            ResponseEntity<AuthorResponse> response = restTemplate.exchange(
+                    url, HttpMethod.GET, acceptHeaders(), AuthorResponse.class);
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
                 log.debug("Author found with id: {}", authorId);
@@ -53,12 +67,35 @@ public class AuthorServiceClient {
         }
     }
 
+    public List<AuthorInfo> getAuthorsByIds(Collection<Long> authorIds) {
+        try {
+            String ids = authorIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+            String url = authorsServiceUrl + "/api/v1/authors/summaries?ids=" + ids;
+            log.debug("Fetching {} authors from Authors Service", authorIds.size());
+
+            ResponseEntity<AuthorResponse[]> response = restTemplate.exchange(
+                    url, HttpMethod.GET, acceptHeaders(), AuthorResponse[].class);
+
+            if (response.getBody() == null) {
+                return List.of();
+            }
+            return Arrays.stream(response.getBody())
+                    .map(this::mapToAuthorInfo)
+                    .toList();
+
+        } catch (RestClientException e) {
+            log.error("Error fetching authors from Authors Service: {}", e.getMessage());
+            throw new AuthorServiceException("Failed to fetch authors: " + e.getMessage());
+        }
+    }
+
     public boolean authorExists(Long authorId) {
         try {
             String url = authorsServiceUrl + "/api/v1/authors/" + authorId + "/exists";
             log.debug("Checking author existence: {}", url);
 
-            ResponseEntity<ExistsResponse> response = restTemplate.getForEntity(url, ExistsResponse.class);
+            ResponseEntity<ExistsResponse> response = restTemplate.exchange(
+                    url, HttpMethod.GET, acceptHeaders(), ExistsResponse.class);
             boolean exists = response.getBody() != null && response.getBody().exists;
 
             log.debug("Author existence check for id {}: {}", authorId, exists);
@@ -73,6 +110,71 @@ public class AuthorServiceClient {
         }
     }
 
+    public long getTotalAuthors() {
+        try {
+            String url = authorsServiceUrl + "/api/v1/authors/stats/total";
+            log.debug("Fetching total authors: {}", url);
+
+            ResponseEntity<TotalResponse> response = restTemplate.exchange(
+                    url, HttpMethod.GET, acceptHeaders(), TotalResponse.class);
+            if (response.getBody() == null) {
+                throw new AuthorServiceException("Empty total authors response");
+            }
+            return response.getBody().total;
+
+        } catch (RestClientException e) {
+            log.error("Error fetching total authors: {}", e.getMessage());
+            throw new AuthorServiceException("Failed to fetch total authors: " + e.getMessage());
+        }
+    }
+
+    public ActiveAuthorIds fetchActiveAuthorIds() {
+        try {
+            String url = authorsServiceUrl + "/api/v1/authors/ids/active";
+            log.debug("Fetching active author id snapshot: {}", url);
+
+            ResponseEntity<byte[]> response = restTemplate.getForEntity(url, byte[].class);
+            String snapshotTime = response.getHeaders().getFirst("X-Snapshot-Time");
+            if (response.getBody() == null || snapshotTime == null) {
+                throw new AuthorServiceException("Empty active author id snapshot");
+            }
+            return new ActiveAuthorIds(response.getBody(), LocalDateTime.parse(snapshotTime));
+
+        } catch (RestClientException e) {
+            log.error("Error fetching active author id snapshot: {}", e.getMessage());
+            throw new AuthorServiceException("Failed to fetch active author ids: " + e.getMessage());
+        }
+    }
+
+    public AuthorIdChanges fetchAuthorIdChanges(LocalDateTime since) {
+        try {
+            String url = authorsServiceUrl + "/api/v1/authors/ids/changes?since=" + since;
+            log.debug("Fetching author id changes: {}", url);
+
+            ResponseEntity<AuthorIdChanges> response = restTemplate.exchange(
+                    url, HttpMethod.GET, acceptHeaders(), AuthorIdChanges.class);
+            if (response.getBody() == null) {
+                throw new AuthorServiceException("Empty author id changes response");
+            }
+            return response.getBody();
+
+        } catch (RestClientException e) {
+            log.error("Error fetching author id changes: {}", e.getMessage());
+            throw new AuthorServiceException("Failed to fetch author id changes: " + e.getMessage());
+        }
+    }
+
+    // Preferimos CBOR entre servicios; JSON queda como alternativa
+    private HttpEntity<Void> acceptHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        if (binaryEncoding) {
+            headers.setAccept(List.of(MediaType.APPLICATION_CBOR, MediaType.APPLICATION_JSON));
+        } else {
+            headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        }
+        return new HttpEntity<>(headers);
+    }
+
     private AuthorInfo mapToAuthorInfo(AuthorResponse response) {
         return AuthorInfo.builder()
                 .id(response.id)
@@ -90,9 +192,6 @@ public class AuthorServiceClient {
         public String name;
         public String email;
         public String authorType;
-        public String country;
-        public String phone;
-        public Integer publicationsCount;
     }
 
     @Data
@@ -103,6 +202,30 @@ public class AuthorServiceClient {
         public boolean exists;
     }
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TotalResponse {
+        public long total;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ActiveAuthorIds {
+        public byte[] bitmap;
+        public LocalDateTime asOf;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AuthorIdChanges {
+        public LocalDateTime asOf;
+        public List<Long> activated;
+        public List<Long> deactivated;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -0,0 +1,6 @@
+package com.editorial.publications.infrastructure.client;
+
+import java.util.List;
+
+public record AuthorsChangedEvent(List<Long> authorIds) {
+}
@@ -0,0 +1,73 @@
+package com.editorial.publications.infrastructure.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+// Cliente no bloqueante de Authors Service para el modo reactivo; mismos endpoints y mismo
+// tratamiento de errores que AuthorServiceClient
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Slf4j
+public class ReactiveAuthorServiceClient {
+
+    private final WebClient webClient;
+    private final Duration timeout;
+
+    public ReactiveAuthorServiceClient(WebClient.Builder webClientBuilder,
+                                       @Value("${authors.service.url}") String authorsServiceUrl,
+                                       @Value("${authors.service.timeout:5000}") long timeout,
+                                       @Value("${authors.service.internal-token:}") String internalToken) {
+        WebClient.Builder builder = webClientBuilder
+                .baseUrl(authorsServiceUrl)
+                .defaultHeader("Accept", MediaType.APPLICATION_JSON_VALUE);
+        if (!internalToken.isEmpty()) {
+            builder.defaultHeader("X-Internal-Token", internalToken);
+        }
+        this.webClient = builder.build();
+        this.timeout = Duration.ofMillis(timeout);
+    }
+
+    public Mono<Boolean> authorExists(Long authorId) {
+        return webClient.get()
+                .uri("/api/v1/authors/{id}/exists", authorId)
+                .retrieve()
+                .bodyToMono(AuthorServiceClient.ExistsResponse.class)
+                .timeout(timeout)
+                .map(response -> response.exists)
+                .defaultIfEmpty(false)
+                .doOnNext(exists -> log.debug("Author existence check for id {}: {}", authorId, exists))
+                .onErrorResume(e -> {
+                    log.error("Error checking author existence: {}", e.getMessage());
+                    return Mono.just(false);
+                });
+    }
+
+    public Flux<AuthorServiceClient.AuthorInfo> getAuthorsByIds(Collection<Long> authorIds) {
+        if (authorIds.isEmpty()) {
+            return Flux.empty();
+        }
+        String ids = authorIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        log.debug("Fetching {} authors from Authors Service", authorIds.size());
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/v1/authors/summaries").queryParam("ids", ids).build())
+                .retrieve()
+                .bodyToFlux(AuthorServiceClient.AuthorResponse.class)
+                .timeout(timeout)
+                .map(response -> AuthorServiceClient.AuthorInfo.builder()
+                        .id(response.id)
+                        .name(response.name)
+                        .email(response.email)
+                        .authorType(response.authorType)
+                        .build());
+    }
+}
@@ -0,0 +1,27 @@
+package com.editorial.publications.infrastructure.config;
+
+import com.editorial.publications.infrastructure.logging.StatementCountingInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+// Con JPA y R2DBC en el classpath cada módulo de Spring Data escanea solo sus repositorios;
+// los de domain.repository.r2dbc los registra ReactiveConfig en el modo reactivo
+@Configuration
+@EnableJpaRepositories(
+        basePackages = "com.editorial.publications.domain.repository",
+        excludeFilters = @ComponentScan.Filter(
+                type = FilterType.REGEX,
+                pattern = "com\\.editorial\\.publications\\.domain\\.repository\\.r2dbc\\..*"))
+public class PersistenceConfig {
+
+    // Sentencias SQL por petición para el access log y los presupuestos por endpoint
+    @Bean
+    public HibernatePropertiesCustomizer statementCountingCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCountingInspector());
+    }
+}
@@ -1,19 +1,168 @@
 package com.editorial.publications.infrastructure.config;
 
+import com.editorial.publications.infrastructure.logging.RemoteCallTimingInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
 import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
 @Configuration
+@Slf4j
 public class RestTemplateConfig {
 
+    @Value("${authors.service.timeout:5000}")
+    private long timeout;
+
+    @Value("${authors.service.pool.max-total:200}")
+    private int maxTotal;
+
+    @Value("${authors.service.pool.max-per-route:100}")
+    private int maxPerRoute;
+
+    @Value("${authors.service.pool.lease-timeout:1000}")
+    private long leaseTimeout;
+
+    @Value("${authors.service.pool.idle-eviction:30000}")
+    private long idleEviction;
+
+    @Value("${authors.service.pool.keep-alive:60000}")
+    private long keepAlive;
+
+    @Value("${authors.service.pool.time-to-live:300000}")
+    private long timeToLive;
+
+    @Value("${authors.service.http2.enabled:false}")
+    private boolean http2Enabled;
+
+    @Value("${authors.service.internal-token:}")
+    private String internalToken;
+
+    @Bean
+    public RestTemplate restTemplate(ObjectProvider<RestTemplateBuilder> builder, ClientHttpRequestFactory authorsRequestFactory) {
+        // En el modo reactivo Spring Boot no registra RestTemplateBuilder; los procesos en segundo plano
+        // siguen usando este cliente bloqueante
+        RestTemplateBuilder configured = builder.getIfAvailable(RestTemplateBuilder::new)
+                .requestFactory(() -> authorsRequestFactory)
+                .additionalInterceptors(new RemoteCallTimingInterceptor());
+        // Las llamadas internas no consumen la cuota del rate limiter de Authors Service
+        if (!internalToken.isEmpty()) {
+            configured = configured.defaultHeader("X-Internal-Token", internalToken);
+        }
+        return configured.build();
+    }
+
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder
-                .setConnectTimeout(Duration.ofSeconds(5))
-                .setReadTimeout(Duration.ofSeconds(5))
+    public ClientHttpRequestFactory authorsRequestFactory(MeterRegistry meterRegistry) {
+        if (http2Enabled) {
+            // h2c: una sola conexión multiplexada por host, sin pool explícito
+            log.info("Using HTTP/2 (h2c) client for Authors Service");
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .connectTimeout(Duration.ofMillis(timeout))
+                    .build();
+            JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+            factory.setReadTimeout(Duration.ofMillis(timeout));
+            return factory;
+        }
+
+        log.info("Using pooled HTTP/1.1 client for Authors Service (maxTotal: {}, maxPerRoute: {})",
+                maxTotal, maxPerRoute);
+        PoolingHttpClientConnectionManager connectionManager = new MeteredConnectionManager(
+                Timer.builder("authors.client.pool.lease.wait")
+                        .description("Time spent waiting to lease a pooled connection to Authors Service")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(timeout))
+                .setSocketTimeout(Timeout.ofMilliseconds(timeout))
+                .setTimeToLive(TimeValue.ofMilliseconds(timeToLive))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build());
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "authors-service")
+                .bindTo(meterRegistry);
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(leaseTimeout))
+                        .setResponseTimeout(Timeout.ofMilliseconds(timeout))
+                        .build())
+                .setKeepAliveStrategy(keepAliveStrategy())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleEviction))
                 .build();
+
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    // Respeta el Keep-Alive del servidor pero nunca más allá del máximo configurado
+    private ConnectionKeepAliveStrategy keepAliveStrategy() {
+        TimeValue maxKeepAlive = TimeValue.ofMilliseconds(keepAlive);
+        return (response, context) -> {
+            TimeValue serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            if (serverKeepAlive == null || serverKeepAlive.compareTo(maxKeepAlive) > 0) {
+                return maxKeepAlive;
+            }
+            return serverKeepAlive;
+        };
+    }
+
+    private static class MeteredConnectionManager extends PoolingHttpClientConnectionManager {
+
+        private final Timer leaseWaitTimer;
+
+        MeteredConnectionManager(Timer leaseWaitTimer) {
+            this.leaseWaitTimer = leaseWaitTimer;
+        }
+
+        @Override
+        public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+            LeaseRequest delegate = super.lease(id, route, requestTimeout, state);
+            return new LeaseRequest() {
+                @Override
+                public ConnectionEndpoint get(Timeout timeout)
+                        throws InterruptedException, ExecutionException, TimeoutException {
+                    long start = System.nanoTime();
+                    try {
+                        return delegate.get(timeout);
+                    } finally {
+                        leaseWaitTimer.record(Duration.ofNanos(System.nanoTime() - start));
+                    }
+                }
+
+                @Override
+                public boolean cancel() {
+                    return delegate.cancel();
+                }
+            };
+        }
     }
 }
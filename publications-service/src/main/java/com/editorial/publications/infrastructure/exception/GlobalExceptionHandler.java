@@ -3,12 +3,15 @@ package com.editorial.publications.infrastructure.exception;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -52,19 +55,14 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationExceptions(MethodArgumentNotValidException ex) {
         log.error("Validation failed: {}", ex.getMessage());
-        Map<String, Object> response = new HashMap<>();
-        response.put("error", "VALIDATION_FAILED");
-        response.put("timestamp", LocalDateTime.now());
-        response.put("status", HttpStatus.BAD_REQUEST.value());
-        response.put("messages", ex.getBindingResult()
-                .getFieldErrors()
-                .stream()
-                .collect(Collectors.toMap(
-                        error -> error.getField(),
-                        error -> error.getDefaultMessage()
-                ))
-        );
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        return validationFailed(ex.getBindingResult().getFieldErrors());
+    }
+
+    // Equivalente de MethodArgumentNotValidException en el modo reactivo (WebFlux)
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<Map<String, Object>> handleWebExchangeBindException(WebExchangeBindException ex) {
+        log.error("Validation failed: {}", ex.getMessage());
+        return validationFailed(ex.getFieldErrors());
     }
 
     @ExceptionHandler(Exception.class)
@@ -78,6 +76,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
 
+    private ResponseEntity<Map<String, Object>> validationFailed(List<FieldError> fieldErrors) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("error", "VALIDATION_FAILED");
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.BAD_REQUEST.value());
+        response.put("messages", fieldErrors
+                .stream()
+                .collect(Collectors.toMap(
+                        error -> error.getField(),
+                        error -> error.getDefaultMessage()
+                ))
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
     private Map<String, Object> buildErrorResponse(String error, String message, int status) {
         Map<String, Object> response = new HashMap<>();
         response.put("error", error);
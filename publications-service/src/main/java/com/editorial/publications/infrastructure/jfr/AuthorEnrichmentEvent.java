@@ -0,0 +1,28 @@
+package com.editorial.publications.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.editorial.publications.AuthorEnrichment")
+@Label("Author Enrichment")
+@Description("Author data lookup for a page or a single publication: snapshots first, Authors Service for the rest")
+@Category({"Editorial", "Publications Service"})
+@StackTrace(false)
+public class AuthorEnrichmentEvent extends Event {
+
+    @Label("Requested Authors")
+    public int requested;
+
+    @Label("From Snapshots")
+    public int fromSnapshots;
+
+    @Label("Remote Calls")
+    public int remoteCalls;
+
+    @Label("Missing Authors")
+    public int missing;
+}
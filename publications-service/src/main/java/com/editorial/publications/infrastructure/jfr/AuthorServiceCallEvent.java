@@ -0,0 +1,28 @@
+package com.editorial.publications.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.editorial.publications.AuthorServiceCall")
+@Label("Authors Service Call")
+@Description("HTTP call to Authors Service; status is 0 when no response was received")
+@Category({"Editorial", "Publications Service", "Remote"})
+@StackTrace(false)
+public class AuthorServiceCallEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("URL")
+    public String url;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,81 @@
+package com.editorial.publications.infrastructure.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+// Grabación continua de JFR con la configuración "default" (sobrecarga por debajo del 1%) acotada
+// por antigüedad y tamaño. El volcado bajo demanda toma una instantánea de todas las grabaciones
+// activas, incluida la que se haya arrancado con -XX:StartFlightRecording.
+@Component
+@Slf4j
+public class FlightRecordingService {
+
+    private static final String RECORDING_NAME = "publications-continuous";
+
+    private final Recording recording;
+
+    public FlightRecordingService(@Value("${publications.jfr.enabled:true}") boolean enabled,
+                                  @Value("${publications.jfr.settings:default}") String settings,
+                                  @Value("${publications.jfr.max-age:3600000}") long maxAge,
+                                  @Value("${publications.jfr.max-size:104857600}") long maxSize) {
+        this.recording = enabled ? startRecording(settings, maxAge, maxSize) : null;
+    }
+
+    // Fichero .jfr temporal con lo grabado hasta ahora; quien lo pide se encarga de borrarlo
+    public Path dump() throws IOException {
+        if (!FlightRecorder.isAvailable() || FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .noneMatch(running -> running.getState() == RecordingState.RUNNING)) {
+            throw new IllegalStateException("No flight recording is running");
+        }
+        Path file = Files.createTempFile("publications-", ".jfr");
+        try (Recording snapshot = FlightRecorder.getFlightRecorder().takeSnapshot()) {
+            snapshot.dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    private static Recording startRecording(String settings, long maxAge, long maxSize) {
+        if (!FlightRecorder.isAvailable()) {
+            log.warn("Java Flight Recorder is not available in this JVM; continuous recording disabled");
+            return null;
+        }
+        try {
+            Recording started = new Recording(Configuration.getConfiguration(settings));
+            started.setName(RECORDING_NAME);
+            started.setToDisk(true);
+            started.setMaxAge(Duration.ofMillis(maxAge));
+            started.setMaxSize(maxSize);
+            // Los volcados salen del proceso: las variables de entorno incluyen credenciales
+            started.disable("jdk.InitialEnvironmentVariable");
+            started.start();
+            log.info("Continuous flight recording started (settings: {}, max age: {} ms, max size: {} bytes)",
+                    settings, maxAge, maxSize);
+            return started;
+        } catch (IOException | ParseException | RuntimeException e) {
+            log.warn("Could not start continuous flight recording: {}", e.getMessage());
+            return null;
+        }
+    }
+}
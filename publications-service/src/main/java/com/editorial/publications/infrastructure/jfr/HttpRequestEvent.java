@@ -0,0 +1,28 @@
+package com.editorial.publications.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.editorial.publications.HttpRequest")
+@Label("HTTP Request")
+@Description("Request served by Publications Service; the nested events share its thread")
+@Category({"Editorial", "Publications Service"})
+@StackTrace(false)
+public class HttpRequestEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Status")
+    public int status;
+}
@@ -0,0 +1,22 @@
+package com.editorial.publications.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.editorial.publications.ServiceCall")
+@Label("Publication Service Call")
+@Description("Call to a public method of PublicationServiceImpl")
+@Category({"Editorial", "Publications Service"})
+@StackTrace(false)
+public class ServiceCallEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Outcome")
+    public String outcome;
+}
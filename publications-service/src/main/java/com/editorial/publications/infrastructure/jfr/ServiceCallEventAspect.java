@@ -0,0 +1,32 @@
+package com.editorial.publications.infrastructure.jfr;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+// Un evento JFR por llamada a los métodos públicos del servicio de publicaciones
+@Aspect
+@Component
+public class ServiceCallEventAspect {
+
+    @Around("execution(public * com.editorial.publications.application.service.impl.PublicationServiceImpl.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServiceCallEvent event = new ServiceCallEvent();
+        event.begin();
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = joinPoint.getSignature().getName();
+                event.outcome = failure == null ? "ok" : failure.getClass().getSimpleName();
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.editorial.publications.infrastructure.logging;
+
+import com.editorial.publications.infrastructure.jfr.AuthorServiceCallEvent;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+// Mide el tiempo de las llamadas a Authors Service durante la petición y emite un evento JFR por llamada
+public class RemoteCallTimingInterceptor implements ClientHttpRequestInterceptor {
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        AuthorServiceCallEvent event = new AuthorServiceCallEvent();
+        event.begin();
+        long start = System.nanoTime();
+        ClientHttpResponse response = null;
+        Throwable failure = null;
+        try {
+            response = execution.execute(request, body);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            RequestTimings.recordRemote(System.nanoTime() - start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.method = request.getMethod().name();
+                event.url = request.getURI().toString();
+                event.status = response != null ? response.getStatusCode().value() : 0;
+                event.outcome = failure != null ? failure.getClass().getSimpleName()
+                        : response.getStatusCode().isError() ? "error" : "ok";
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.editorial.publications.infrastructure.logging;
+
+import com.editorial.publications.infrastructure.jfr.RepositoryCallEvent;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+
+// Mide el tiempo pasado en los repositorios de Spring Data durante la petición y emite un evento JFR por llamada;
+// es la copia de la de Authors Service más el evento
+@Aspect
+@Component
+public class RepositoryTimingAspect {
+
+    @Around("target(org.springframework.data.repository.Repository)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            RequestTimings.recordDb(System.nanoTime() - start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = repositoryName(joinPoint.getTarget());
+                event.method = joinPoint.getSignature().getName();
+                event.outcome = failure == null ? "ok" : failure.getClass().getSimpleName();
+                event.commit();
+            }
+        }
+    }
+
+    // El target es el proxy de Spring Data; su interfaz de usuario es el repositorio declarado
+    private static String repositoryName(Object target) {
+        Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(target);
+        return interfaces.length > 0 ? interfaces[0].getSimpleName() : target.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,71 @@
+package com.editorial.publications.infrastructure.logging;
+
+// Tiempos y sentencias SQL acumulados por petición (base de datos y llamadas remotas) para el access log.
+// Solo se registra en el hilo que atiende la petición; fuera de una petición no hace nada.
+// Authors Service mantiene una versión propia (sin módulo común); los contadores deben significar lo mismo en ambas.
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private long dbNanos;
+    private int dbCalls;
+    private int sqlStatements;
+    private long remoteNanos;
+    private int remoteCalls;
+
+    private RequestTimings() {
+    }
+
+    static RequestTimings start() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    public static void recordDb(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.dbNanos += nanos;
+            timings.dbCalls++;
+        }
+    }
+
+    public static void recordStatement() {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.sqlStatements++;
+        }
+    }
+
+    public static void recordRemote(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.remoteNanos += nanos;
+            timings.remoteCalls++;
+        }
+    }
+
+    public long getDbNanos() {
+        return dbNanos;
+    }
+
+    public int getDbCalls() {
+        return dbCalls;
+    }
+
+    public int getSqlStatements() {
+        return sqlStatements;
+    }
+
+    public long getRemoteNanos() {
+        return remoteNanos;
+    }
+
+    public int getRemoteCalls() {
+        return remoteCalls;
+    }
+}
@@ -0,0 +1,14 @@
+package com.editorial.publications.infrastructure.logging;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Cuenta las sentencias SQL que Hibernate prepara durante la petición; no modifica el SQL.
+// Copia literal de la de Authors Service: cada servicio se construye por separado
+public class StatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestTimings.recordStatement();
+        return sql;
+    }
+}
@@ -0,0 +1,31 @@
+package com.editorial.publications.infrastructure.outbox;
+
+import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Solo llega a los suscriptores SSE de esta réplica, la que entregó el lote
+@Component
+@AllArgsConstructor
+public class ApplicationEventPublicationSink implements PublicationEventSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public String getName() {
+        return "in-process";
+    }
+
+    // Los suscriptores SSE no deduplican por eventId
+    @Override
+    public boolean isIdempotent() {
+        return false;
+    }
+
+    @Override
+    public void deliver(List<PublicationEvent> events) {
+        events.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,223 @@
+package com.editorial.publications.infrastructure.outbox;
+
+import com.editorial.publications.domain.entity.OutboxEvent;
+import com.editorial.publications.domain.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    @Value("${publications.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${publications.outbox.retry.initial-backoff:1000}")
+    private long initialBackoff;
+
+    @Value("${publications.outbox.retry.max-backoff:300000}")
+    private long maxBackoff;
+
+    @Value("${publications.outbox.retry.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${publications.outbox.claim-timeout:60000}")
+    private long claimTimeout;
+
+    @Value("${publications.outbox.retention-hours:24}")
+    private long retentionHours;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<PublicationEventSink> sinks;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+    private final AtomicLong oldestPendingAgeMillis = new AtomicLong();
+    private final Timer deliveryLag;
+    private final Counter delivered;
+    private final Counter failed;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       List<PublicationEventSink> sinks,
+                       ObjectMapper objectMapper,
+                       TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        // Los sinks que no toleran duplicados (los eventos en proceso llegan al SSE) van al final: si falla
+        // uno anterior, el lote se reintenta sin haberlos tocado
+        this.sinks = sinks.stream()
+                .sorted(Comparator.comparing(sink -> !sink.isIdempotent()))
+                .toList();
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.deliveryLag = Timer.builder("publications.outbox.delivery.lag")
+                .description("Time between an outbox event being written and being delivered")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.delivered = Counter.builder("publications.outbox.delivered").register(meterRegistry);
+        this.failed = Counter.builder("publications.outbox.failed").register(meterRegistry);
+        Gauge.builder("publications.outbox.pending", pending, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("publications.outbox.dead.letter", deadLettered, AtomicLong::get)
+                .description("Outbox events that exhausted their delivery attempts")
+                .register(meterRegistry);
+        Gauge.builder("publications.outbox.oldest.pending.age", oldestPendingAgeMillis, age -> age.get() / 1000.0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${publications.outbox.relay-interval:1000}")
+    public void relay() {
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> claimBatch());
+        if (!batch.isEmpty()) {
+            deliver(batch);
+        }
+        updateLagGauges();
+    }
+
+    // Con varias réplicas, cada lote se reclama adelantando su next_attempt_at hasta claim-timeout: las demás
+    // ven esas publicaciones como si esperasen un reintento y no las tocan, así que ningún evento se entrega
+    // dos veces ni se adelanta a uno anterior. Si la réplica cae a mitad de la entrega, el lote vuelve a estar
+    // disponible al vencer la reclamación
+    private List<OutboxEvent> claimBatch() {
+        if (!outboxEventRepository.tryLockClaim()) {
+            return List.of();
+        }
+        // Dos consultas lineales en lugar de un anti join, que con estadísticas desactualizadas y una cola
+        // grande el planificador puede resolver con un bucle anidado cuadrático
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> waiting = outboxEventRepository.findWaitingAggregateIds(now);
+        List<OutboxEvent> batch = waiting.isEmpty()
+                ? outboxEventRepository.findPending(now, PageRequest.of(0, batchSize))
+                : outboxEventRepository.findPendingExcluding(now, waiting, PageRequest.of(0, batchSize));
+        if (!batch.isEmpty()) {
+            List<Long> ids = batch.stream().map(OutboxEvent::getId).toList();
+            outboxEventRepository.claim(ids, now.plus(Duration.ofMillis(claimTimeout)));
+        }
+        return batch;
+    }
+
+    @Scheduled(cron = "${publications.outbox.cleanup-cron:0 30 * * * *}")
+    public void cleanup() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteDeliveredBefore(LocalDateTime.now().minusHours(retentionHours)));
+        log.debug("Deleted {} delivered outbox events", deleted);
+    }
+
+    private void deliver(List<OutboxEvent> batch) {
+        // Orden por publicación: si un evento no puede enviarse todavía, los posteriores de la misma publicación esperan
+        Set<Long> blockedAggregates = new HashSet<>();
+        List<OutboxEvent> deliverable = new ArrayList<>();
+        List<PublicationEvent> events = new ArrayList<>();
+        for (OutboxEvent outboxEvent : batch) {
+            if (blockedAggregates.contains(outboxEvent.getAggregateId())) {
+                continue;
+            }
+            PublicationEvent event = readPayload(outboxEvent);
+            if (event == null) {
+                blockedAggregates.add(outboxEvent.getAggregateId());
+                continue;
+            }
+            deliverable.add(outboxEvent);
+            events.add(event);
+        }
+        if (deliverable.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (PublicationEventSink sink : sinks) {
+                sink.deliver(events);
+            }
+            markDelivered(deliverable);
+        } catch (Exception e) {
+            log.warn("Could not deliver {} publication events: {}", deliverable.size(), e.getMessage());
+            markFailed(deliverable, e);
+        }
+    }
+
+    private PublicationEvent readPayload(OutboxEvent outboxEvent) {
+        try {
+            PublicationEvent event = objectMapper.readValue(outboxEvent.getPayload(), PublicationEvent.class);
+            event.setEventId(outboxEvent.getId());
+            return event;
+        } catch (Exception e) {
+            log.error("Invalid outbox payload for event {}: {}", outboxEvent.getId(), e.getMessage());
+            markFailed(List.of(outboxEvent), e);
+            return null;
+        }
+    }
+
+    private void markDelivered(List<OutboxEvent> outboxEvents) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = new ArrayList<>(outboxEvents.size());
+        for (OutboxEvent outboxEvent : outboxEvents) {
+            ids.add(outboxEvent.getId());
+            deliveryLag.record(Duration.between(outboxEvent.getCreatedAt(), now));
+        }
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.markDelivered(ids, now));
+        delivered.increment(outboxEvents.size());
+        log.debug("Delivered {} publication events", outboxEvents.size());
+    }
+
+    // Un UPDATE por cada número de intentos del lote (el backoff depende de él) y otro para los que
+    // agotan max-attempts, que pasan a dead letter
+    private void markFailed(List<OutboxEvent> outboxEvents, Exception error) {
+        LocalDateTime now = LocalDateTime.now();
+        String message = error.getMessage() == null ? error.getClass().getSimpleName() : error.getMessage();
+        String lastError = message.length() > 1000 ? message.substring(0, 1000) : message;
+
+        Map<Integer, List<Long>> retriesByAttempts = new TreeMap<>();
+        List<Long> exhausted = new ArrayList<>();
+        for (OutboxEvent outboxEvent : outboxEvents) {
+            int attempts = outboxEvent.getAttempts() + 1;
+            if (attempts >= maxAttempts) {
+                exhausted.add(outboxEvent.getId());
+            } else {
+                retriesByAttempts.computeIfAbsent(attempts, key -> new ArrayList<>()).add(outboxEvent.getId());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            retriesByAttempts.forEach((attempts, ids) -> {
+                long backoff = Math.min(maxBackoff, initialBackoff << Math.min(attempts - 1, 20));
+                outboxEventRepository.markRetry(ids, now.plus(Duration.ofMillis(backoff)), lastError);
+            });
+            if (!exhausted.isEmpty()) {
+                outboxEventRepository.markFailed(exhausted, now, lastError);
+            }
+        });
+        failed.increment(outboxEvents.size());
+        if (!exhausted.isEmpty()) {
+            log.error("{} publication events moved to dead letter after {} attempts: {}",
+                    exhausted.size(), maxAttempts, exhausted);
+        }
+    }
+
+    private void updateLagGauges() {
+        pending.set(outboxEventRepository.countPending());
+        deadLettered.set(outboxEventRepository.countFailed());
+        LocalDateTime oldest = outboxEventRepository.findOldestPendingCreatedAt();
+        oldestPendingAgeMillis.set(oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toMillis());
+    }
+}
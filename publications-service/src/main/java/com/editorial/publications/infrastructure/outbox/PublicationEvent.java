@@ -0,0 +1,30 @@
+package com.editorial.publications.infrastructure.outbox;
+
+import com.editorial.publications.domain.entity.PublicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PublicationEvent {
+
+    private Long eventId;
+
+    private PublicationEventType type;
+
+    private Long publicationId;
+
+    private Long authorId;
+
+    private PublicationStatus previousStatus;
+
+    private PublicationStatus status;
+
+    private LocalDateTime occurredAt;
+}
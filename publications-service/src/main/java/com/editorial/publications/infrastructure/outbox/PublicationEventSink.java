@@ -0,0 +1,15 @@
+package com.editorial.publications.infrastructure.outbox;
+
+import java.util.List;
+
+public interface PublicationEventSink {
+
+    String getName();
+
+    // false si un reintento del mismo lote llega duplicado al consumidor final (el relay los entrega los últimos)
+    default boolean isIdempotent() {
+        return true;
+    }
+
+    void deliver(List<PublicationEvent> events) throws Exception;
+}
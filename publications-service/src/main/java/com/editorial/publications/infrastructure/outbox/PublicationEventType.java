@@ -0,0 +1,7 @@
+package com.editorial.publications.infrastructure.outbox;
+
+public enum PublicationEventType {
+    CREATED,
+    STATUS_CHANGED,
+    DELETED
+}
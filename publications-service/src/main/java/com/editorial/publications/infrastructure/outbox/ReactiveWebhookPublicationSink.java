@@ -0,0 +1,45 @@
+package com.editorial.publications.infrastructure.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.List;
+
+// En el modo reactivo no hay RestTemplateBuilder; el relay sigue siendo un hilo programado,
+// así que esperar la respuesta aquí no bloquea el event loop
+@Component
+@Slf4j
+@ConditionalOnExpression("!'${publications.outbox.webhook.url:}'.isEmpty()")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWebhookPublicationSink implements PublicationEventSink {
+
+    private final WebClient webClient;
+    private final Duration timeout;
+
+    public ReactiveWebhookPublicationSink(WebClient.Builder webClientBuilder,
+                                          @Value("${publications.outbox.webhook.url}") String webhookUrl,
+                                          @Value("${publications.outbox.webhook.timeout:5000}") long timeout) {
+        this.webClient = webClientBuilder.baseUrl(webhookUrl).build();
+        this.timeout = Duration.ofMillis(timeout);
+        log.info("Publication events will be delivered to webhook: {}", webhookUrl);
+    }
+
+    @Override
+    public String getName() {
+        return "webhook";
+    }
+
+    @Override
+    public void deliver(List<PublicationEvent> events) {
+        webClient.post()
+                .bodyValue(events)
+                .retrieve()
+                .toBodilessEntity()
+                .block(timeout);
+    }
+}
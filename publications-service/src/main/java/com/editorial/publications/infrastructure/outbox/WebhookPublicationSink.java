@@ -0,0 +1,43 @@
+package com.editorial.publications.infrastructure.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+@Slf4j
+@ConditionalOnExpression("!'${publications.outbox.webhook.url:}'.isEmpty()")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class WebhookPublicationSink implements PublicationEventSink {
+
+    private final RestTemplate restTemplate;
+    private final String webhookUrl;
+
+    public WebhookPublicationSink(RestTemplateBuilder builder,
+                                  @Value("${publications.outbox.webhook.url}") String webhookUrl,
+                                  @Value("${publications.outbox.webhook.timeout:5000}") long timeout) {
+        this.restTemplate = builder
+                .setConnectTimeout(Duration.ofMillis(timeout))
+                .setReadTimeout(Duration.ofMillis(timeout))
+                .build();
+        this.webhookUrl = webhookUrl;
+        log.info("Publication events will be delivered to webhook: {}", webhookUrl);
+    }
+
+    @Override
+    public String getName() {
+        return "webhook";
+    }
+
+    @Override
+    public void deliver(List<PublicationEvent> events) {
+        restTemplate.postForEntity(webhookUrl, events, Void.class);
+    }
+}
@@ -0,0 +1,13 @@
+package com.editorial.publications.infrastructure.ratelimit;
+
+// Cada categoría tiene su propio cubo por cliente: un cliente que agota las búsquedas
+// sigue pudiendo leer publicaciones individuales
+public enum RateLimitCategory {
+    WRITE,
+    LIST,
+    SEARCH,
+    STATS;
+
+    public record Limit(long capacity, double refillPerSecond) {
+    }
+}
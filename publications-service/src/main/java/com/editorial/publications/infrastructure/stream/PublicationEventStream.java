@@ -0,0 +1,272 @@
+package com.editorial.publications.infrastructure.stream;
+
+import com.editorial.publications.domain.entity.PublicationStatus;
+import com.editorial.publications.infrastructure.outbox.PublicationEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Difunde los eventos entregados por el outbox a los clientes SSE suscritos.
+// Cada suscriptor tiene un buffer acotado; unos pocos hilos drenan los buffers
+// y un cliente que no consume a tiempo se desconecta en lugar de frenar al resto.
+// SseEmitter.send bloquea mientras el socket del cliente está lleno: un envío que supera
+// send-timeout desconecta al suscriptor y el pool suma un hilo mientras ese envío siga atascado.
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Slf4j
+public class PublicationEventStream {
+
+    @Value("${publications.events.stream.max-subscribers:1000}")
+    private int maxSubscribers;
+
+    @Value("${publications.events.stream.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${publications.events.stream.timeout:1800000}")
+    private long emitterTimeout;
+
+    @Value("${publications.events.stream.send-timeout:5000}")
+    private long sendTimeout;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger reservedSlots = new AtomicInteger();
+    private final ThreadPoolExecutor dispatcher;
+    private final int dispatcherThreads;
+    private final Counter sentCounter;
+    private final Counter evictedCounter;
+    private final Counter stalledCounter;
+
+    public PublicationEventStream(MeterRegistry meterRegistry,
+                                  @Value("${publications.events.stream.dispatcher-threads:2}") int dispatcherThreads) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dispatcherThreads = dispatcherThreads;
+        this.dispatcher = new ThreadPoolExecutor(dispatcherThreads, dispatcherThreads,
+                60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "publication-events-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sentCounter = Counter.builder("publications.events.stream.sent")
+                .description("Publication events written to SSE subscribers")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("publications.events.stream.evicted")
+                .description("SSE subscribers disconnected for falling behind")
+                .register(meterRegistry);
+        this.stalledCounter = Counter.builder("publications.events.stream.stalled")
+                .description("SSE subscribers disconnected because a send exceeded the send timeout")
+                .register(meterRegistry);
+        Gauge.builder("publications.events.stream.subscribers", subscribers, Set::size)
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(PublicationStatus status, Long authorId) {
+        // La plaza se reserva antes de crear el emisor; se libera una sola vez al quitar al suscriptor
+        if (reservedSlots.incrementAndGet() > maxSubscribers) {
+            reservedSlots.decrementAndGet();
+            throw new IllegalStateException("Too many event stream subscribers");
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeout);
+        Subscriber subscriber = new Subscriber(emitter, status, authorId, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        subscribers.add(subscriber);
+
+        log.debug("New publication event subscriber (status: {}, authorId: {}), total: {}",
+                status, authorId, subscribers.size());
+        return emitter;
+    }
+
+    @EventListener
+    public void onPublicationEvent(PublicationEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.accepts(event)) {
+                continue;
+            }
+            if (!subscriber.queue.offer(event)) {
+                evict(subscriber);
+                continue;
+            }
+            schedule(subscriber);
+        }
+    }
+
+    // Mantiene abiertas las conexiones a través de proxies que cortan conexiones inactivas
+    @Scheduled(fixedDelayString = "${publications.events.stream.heartbeat-interval:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatPending.set(true);
+            schedule(subscriber);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${publications.events.stream.stall-check-interval:1000}")
+    public void evictStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            synchronized (subscriber) {
+                long started = subscriber.sendStartedAt;
+                if (started == 0 || subscriber.stalled || now - started <= TimeUnit.MILLISECONDS.toNanos(sendTimeout)) {
+                    continue;
+                }
+                subscriber.stalled = true;
+                resizeDispatcher(1);
+            }
+            if (remove(subscriber)) {
+                stalledCounter.increment();
+                log.warn("Evicting stalled publication event subscriber (send blocked for more than {} ms)",
+                        sendTimeout);
+            }
+            subscriber.queue.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        dispatcher.shutdownNow();
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    // Un único hilo drena a cada suscriptor a la vez, así se conserva el orden de los eventos
+    private void drain(Subscriber subscriber) {
+        try {
+            if (subscriber.heartbeatPending.getAndSet(false)) {
+                send(subscriber, SseEmitter.event().comment("heartbeat"));
+            }
+            PublicationEvent event;
+            while (subscribers.contains(subscriber) && (event = subscriber.queue.poll()) != null) {
+                send(subscriber, SseEmitter.event()
+                        .id(String.valueOf(event.getEventId()))
+                        .name(event.getType().name())
+                        .data(event, MediaType.APPLICATION_JSON));
+                sentCounter.increment();
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping publication event subscriber: {}", e.getMessage());
+            remove(subscriber);
+            subscriber.queue.clear();
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (!subscribers.contains(subscriber)) {
+            close(subscriber);
+        } else if (!subscriber.queue.isEmpty() || subscriber.heartbeatPending.get()) {
+            schedule(subscriber);
+        }
+    }
+
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        subscriber.sendStartedAt = System.nanoTime();
+        try {
+            subscriber.emitter.send(event);
+        } finally {
+            synchronized (subscriber) {
+                subscriber.sendStartedAt = 0;
+                if (subscriber.stalled) {
+                    subscriber.stalled = false;
+                    resizeDispatcher(-1);
+                }
+            }
+        }
+    }
+
+    // Se llama desde el hilo del outbox: no debe tocar el emisor, cuyos métodos se sincronizan con un send
+    // que puede estar bloqueado; el cierre lo hace un hilo del dispatcher
+    private void evict(Subscriber subscriber) {
+        if (remove(subscriber)) {
+            evictedCounter.increment();
+            log.warn("Evicting slow publication event subscriber (buffer of {} events full)", bufferSize);
+            subscriber.queue.clear();
+            if (subscriber.draining.compareAndSet(false, true)) {
+                dispatcher.execute(() -> close(subscriber));
+            }
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        try {
+            subscriber.emitter.complete();
+        } catch (Exception e) {
+            log.debug("Could not complete publication event subscriber: {}", e.getMessage());
+        }
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            reservedSlots.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    // Un hilo atascado en un send no cuenta para drenar al resto de suscriptores
+    private synchronized void resizeDispatcher(int delta) {
+        int size = dispatcher.getMaximumPoolSize() + delta;
+        if (size < dispatcherThreads) {
+            return;
+        }
+        if (delta > 0) {
+            dispatcher.setMaximumPoolSize(size);
+            dispatcher.setCorePoolSize(size);
+        } else {
+            dispatcher.setCorePoolSize(size);
+            dispatcher.setMaximumPoolSize(size);
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final PublicationStatus status;
+        private final Long authorId;
+        private final Queue<PublicationEvent> queue;
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private final AtomicBoolean heartbeatPending = new AtomicBoolean(false);
+        private volatile long sendStartedAt;
+        private boolean stalled;
+
+        private Subscriber(SseEmitter emitter, PublicationStatus status, Long authorId, Queue<PublicationEvent> queue) {
+            this.emitter = emitter;
+            this.status = status;
+            this.authorId = authorId;
+            this.queue = queue;
+        }
+
+        // El filtro por estado coincide con el estado nuevo o el anterior, para que el cliente
+        // también se entere de las publicaciones que salen de su vista
+        private boolean accepts(PublicationEvent event) {
+            if (authorId != null && !authorId.equals(event.getAuthorId())) {
+                return false;
+            }
+            return status == null || status == event.getStatus() || status == event.getPreviousStatus();
+        }
+    }
+}
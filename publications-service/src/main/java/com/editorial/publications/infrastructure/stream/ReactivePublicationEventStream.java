@@ -0,0 +1,141 @@
+package com.editorial.publications.infrastructure.stream;
+
+import com.editorial.publications.domain.entity.PublicationStatus;
+import com.editorial.publications.infrastructure.outbox.PublicationEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Equivalente WebFlux de PublicationEventStream: cada suscriptor tiene un sink unicast con buffer
+// acotado, Netty escribe a medida que el cliente consume y un cliente que llena su buffer se desconecta
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Slf4j
+public class ReactivePublicationEventStream {
+
+    @Value("${publications.events.stream.max-subscribers:1000}")
+    private int maxSubscribers;
+
+    @Value("${publications.events.stream.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${publications.events.stream.timeout:1800000}")
+    private long streamTimeout;
+
+    @Value("${publications.events.stream.heartbeat-interval:15000}")
+    private long heartbeatInterval;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger reservedSlots = new AtomicInteger();
+    private final Counter sentCounter;
+    private final Counter evictedCounter;
+
+    public ReactivePublicationEventStream(MeterRegistry meterRegistry) {
+        this.sentCounter = Counter.builder("publications.events.stream.sent")
+                .description("Publication events written to SSE subscribers")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("publications.events.stream.evicted")
+                .description("SSE subscribers disconnected for falling behind")
+                .register(meterRegistry);
+        Gauge.builder("publications.events.stream.subscribers", subscribers, Set::size)
+                .register(meterRegistry);
+    }
+
+    public Flux<ServerSentEvent<PublicationEvent>> subscribe(PublicationStatus status, Long authorId) {
+        if (reservedSlots.incrementAndGet() > maxSubscribers) {
+            reservedSlots.decrementAndGet();
+            throw new IllegalStateException("Too many event stream subscribers");
+        }
+
+        Subscriber subscriber = new Subscriber(status, authorId,
+                Sinks.many().unicast().onBackpressureBuffer(new ArrayBlockingQueue<>(bufferSize)));
+        subscribers.add(subscriber);
+        log.debug("New publication event subscriber (status: {}, authorId: {}), total: {}",
+                status, authorId, subscribers.size());
+
+        Flux<ServerSentEvent<PublicationEvent>> events = subscriber.sink.asFlux()
+                .map(event -> ServerSentEvent.builder(event)
+                        .id(String.valueOf(event.getEventId()))
+                        .event(event.getType().name())
+                        .build())
+                .doOnNext(event -> sentCounter.increment());
+        // Mantiene abiertas las conexiones a través de proxies que cortan conexiones inactivas
+        Flux<ServerSentEvent<PublicationEvent>> heartbeats = Flux.interval(Duration.ofMillis(heartbeatInterval))
+                .map(tick -> ServerSentEvent.<PublicationEvent>builder().comment("heartbeat").build());
+
+        return Flux.merge(events, heartbeats)
+                .take(Duration.ofMillis(streamTimeout))
+                .doFinally(signal -> remove(subscriber));
+    }
+
+    // Los sinks no admiten emisiones concurrentes; los eventos del outbox llegan de un solo hilo
+    // pero se sincroniza por suscriptor para no depender de ello
+    @EventListener
+    public void onPublicationEvent(PublicationEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.accepts(event)) {
+                continue;
+            }
+            Sinks.EmitResult result;
+            synchronized (subscriber) {
+                result = subscriber.sink.tryEmitNext(event);
+            }
+            if (result == Sinks.EmitResult.FAIL_OVERFLOW) {
+                evict(subscriber);
+            } else if (result.isFailure()) {
+                remove(subscriber);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.sink.tryEmitComplete());
+        subscribers.clear();
+    }
+
+    private void evict(Subscriber subscriber) {
+        if (remove(subscriber)) {
+            evictedCounter.increment();
+            log.warn("Evicting slow publication event subscriber (buffer of {} events full)", bufferSize);
+            synchronized (subscriber) {
+                subscriber.sink.tryEmitComplete();
+            }
+        }
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            reservedSlots.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    private record Subscriber(PublicationStatus status, Long authorId, Sinks.Many<PublicationEvent> sink) {
+
+        // El filtro por estado coincide con el estado nuevo o el anterior, para que el cliente
+        // también se entere de las publicaciones que salen de su vista
+        private boolean accepts(PublicationEvent event) {
+            if (authorId != null && !authorId.equals(event.getAuthorId())) {
+                return false;
+            }
+            return status == null || status == event.getStatus() || status == event.getPreviousStatus();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.editorial.publications.infrastructure.trending;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+// Una franja del sketch: Count-Min de depth x width contadores (con actualización conservadora)
+// y un top-K por categoría (la clave null es el ranking global). Tamaño fijo, independiente
+// del número de publicaciones.
+// No es thread-safe: PublicationTrendingTracker serializa el acceso a cada franja.
+final class HeavyHitterShard {
+
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x27D4EB2F165667C5L, 0x94D049BB133111EBL
+    };
+
+    private final double[][] counters;
+    private final int widthMask;
+    private final int topK;
+    private final int maxCategories;
+    private final Map<String, TopK> topByCategory = new HashMap<>();
+
+    HeavyHitterShard(int depth, int width, int topK, int maxCategories) {
+        this.counters = new double[Math.min(depth, SEEDS.length)][width];
+        this.widthMask = width - 1;
+        this.topK = topK;
+        this.maxCategories = maxCategories;
+    }
+
+    void record(long id, String category, double weight) {
+        // Actualización conservadora: solo suben los contadores que quedarían por debajo de la nueva estimación
+        double updated = estimate(id) + weight;
+        for (int row = 0; row < counters.length; row++) {
+            int column = column(id, row);
+            if (counters[row][column] < updated) {
+                counters[row][column] = updated;
+            }
+        }
+
+        double score = estimate(id);
+        top(null, true).offer(id, score);
+        if (category != null) {
+            TopK byCategory = top(category, topByCategory.size() <= maxCategories);
+            if (byCategory != null) {
+                byCategory.offer(id, score);
+            }
+        }
+    }
+
+    double estimate(long id) {
+        double min = Double.MAX_VALUE;
+        for (int row = 0; row < counters.length; row++) {
+            min = Math.min(min, counters[row][column(id, row)]);
+        }
+        return min;
+    }
+
+    void candidates(String category, Collection<Long> into) {
+        TopK top = topByCategory.get(category);
+        if (top != null) {
+            into.addAll(top.scores.keySet());
+        }
+    }
+
+    void forget(long id, String category) {
+        TopK all = topByCategory.get(null);
+        if (all != null) {
+            all.remove(id);
+        }
+        TopK byCategory = category == null ? null : topByCategory.get(category);
+        if (byCategory != null) {
+            byCategory.remove(id);
+        }
+    }
+
+    // Decaimiento exponencial: contadores y puntuaciones se escalan por igual, el orden no cambia
+    void decay(double factor) {
+        for (double[] row : counters) {
+            for (int column = 0; column < row.length; column++) {
+                row[column] *= factor;
+            }
+        }
+        topByCategory.values().forEach(top -> top.scale(factor));
+        topByCategory.entrySet().removeIf(entry -> entry.getValue().scores.isEmpty());
+    }
+
+    int categories() {
+        return topByCategory.size();
+    }
+
+    private TopK top(String category, boolean create) {
+        TopK top = topByCategory.get(category);
+        if (top == null && create) {
+            top = new TopK(topK);
+            topByCategory.put(category, top);
+        }
+        return top;
+    }
+
+    private int column(long id, int row) {
+        long hash = (id ^ SEEDS[row]) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 31)) * 0x94D049BB133111EBL;
+        return (int) (hash ^ (hash >>> 29)) & widthMask;
+    }
+
+    // Los K identificadores con mayor puntuación; el mínimo es el primero del TreeSet
+    private static final class TopK {
+
+        private static final double EVICTION_FLOOR = 0.01;
+
+        private final int capacity;
+        private final Map<Long, Double> scores = new HashMap<>();
+        private TreeSet<Entry> ordered = new TreeSet<>(Entry.ORDER);
+
+        private TopK(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private void offer(long id, double score) {
+            Double previous = scores.get(id);
+            if (previous != null) {
+                ordered.remove(new Entry(id, previous));
+            } else if (scores.size() >= capacity) {
+                Entry lowest = ordered.first();
+                if (lowest.score() >= score) {
+                    return;
+                }
+                ordered.pollFirst();
+                scores.remove(lowest.id());
+            }
+            scores.put(id, score);
+            ordered.add(new Entry(id, score));
+        }
+
+        private void remove(long id) {
+            Double previous = scores.remove(id);
+            if (previous != null) {
+                ordered.remove(new Entry(id, previous));
+            }
+        }
+
+        // Las entradas que ya no llegan al suelo se descartan para que una categoría inactiva desaparezca
+        private void scale(double factor) {
+            TreeSet<Entry> scaled = new TreeSet<>(Entry.ORDER);
+            List<Long> expired = new ArrayList<>();
+            for (Entry entry : ordered) {
+                double score = entry.score() * factor;
+                if (score < EVICTION_FLOOR) {
+                    expired.add(entry.id());
+                    continue;
+                }
+                scaled.add(new Entry(entry.id(), score));
+                scores.put(entry.id(), score);
+            }
+            expired.forEach(scores::remove);
+            ordered = scaled;
+        }
+    }
+
+    private record Entry(long id, double score) {
+
+        private static final Comparator<Entry> ORDER =
+                Comparator.comparingDouble(Entry::score).thenComparingLong(Entry::id);
+    }
+}
@@ -0,0 +1,158 @@
+package com.editorial.publications.infrastructure.trending;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Publicaciones más leídas en la ventana reciente sin consultar la base de datos: cada lectura por id
+// suma 1 en un Count-Min con decaimiento exponencial y actualiza el top-K de su categoría.
+// Los hilos se reparten en franjas independientes para no competir por un único lock; el ranking
+// une los candidatos de todas las franjas y suma sus estimaciones.
+@Component
+@Slf4j
+public class PublicationTrendingTracker {
+
+    private final boolean enabled;
+    private final int topK;
+    private final double decayFactor;
+    private final HeavyHitterShard[] shards;
+    private final int shardMask;
+    private final Counter viewsCounter;
+
+    public PublicationTrendingTracker(MeterRegistry meterRegistry,
+                                      @Value("${publications.trending.enabled:true}") boolean enabled,
+                                      @Value("${publications.trending.shards:8}") int shards,
+                                      @Value("${publications.trending.depth:4}") int depth,
+                                      @Value("${publications.trending.width:2048}") int width,
+                                      @Value("${publications.trending.top-k:50}") int topK,
+                                      @Value("${publications.trending.max-categories:32}") int maxCategories,
+                                      @Value("${publications.trending.half-life:3600000}") long halfLife,
+                                      @Value("${publications.trending.decay-interval:60000}") long decayInterval) {
+        this.enabled = enabled;
+        this.topK = topK;
+        this.decayFactor = Math.pow(0.5, (double) decayInterval / halfLife);
+
+        // Potencias de dos para elegir franja y columna con una máscara
+        int shardCount = Integer.highestOneBit(Math.max(1, shards - 1) << 1);
+        int columns = Integer.highestOneBit(Math.max(2, width - 1) << 1);
+        this.shards = new HeavyHitterShard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            this.shards[i] = new HeavyHitterShard(depth, columns, topK, maxCategories);
+        }
+        this.shardMask = shardCount - 1;
+
+        this.viewsCounter = Counter.builder("publications.trending.views")
+                .description("Publication reads fed into the trending sketch")
+                .register(meterRegistry);
+        Gauge.builder("publications.trending.categories", this, PublicationTrendingTracker::trackedCategories)
+                .description("Rankings (global plus one per category) kept by the largest shard")
+                .register(meterRegistry);
+
+        log.info("Trending sketch: {} shards of {}x{} counters, top-{} per category (max {} categories)",
+                shardCount, depth, columns, topK, maxCategories);
+    }
+
+    public void recordView(Long publicationId, String category) {
+        if (!enabled || publicationId == null) {
+            return;
+        }
+        HeavyHitterShard shard = shards[(int) Thread.currentThread().getId() & shardMask];
+        String key = normalize(category);
+        synchronized (shard) {
+            shard.record(publicationId, key, 1.0);
+        }
+        viewsCounter.increment();
+    }
+
+    public void forget(Long publicationId, String category) {
+        if (publicationId == null) {
+            return;
+        }
+        String key = normalize(category);
+        for (HeavyHitterShard shard : shards) {
+            synchronized (shard) {
+                shard.forget(publicationId, key);
+            }
+        }
+    }
+
+    // Hasta min(limit, K) publicaciones de la categoría (o de todas si es null), de mayor a menor puntuación
+    public List<Trending> top(String category, int limit) {
+        if (!enabled) {
+            return List.of();
+        }
+        String key = normalize(category);
+
+        Set<Long> candidates = new HashSet<>();
+        for (HeavyHitterShard shard : shards) {
+            synchronized (shard) {
+                shard.candidates(key, candidates);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (HeavyHitterShard shard : shards) {
+            synchronized (shard) {
+                for (Long id : candidates) {
+                    scores.merge(id, shard.estimate(id), Double::sum);
+                }
+            }
+        }
+
+        List<Trending> ranking = new ArrayList<>(scores.size());
+        scores.forEach((id, score) -> ranking.add(new Trending(id, score)));
+        ranking.sort(Comparator.comparingDouble(Trending::score).reversed().thenComparingLong(Trending::publicationId));
+        return ranking.subList(0, Math.min(Math.min(limit, topK), ranking.size()));
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    @Scheduled(fixedDelayString = "${publications.trending.decay-interval:60000}")
+    public void decay() {
+        if (!enabled) {
+            return;
+        }
+        for (HeavyHitterShard shard : shards) {
+            synchronized (shard) {
+                shard.decay(decayFactor);
+            }
+        }
+    }
+
+    private double trackedCategories() {
+        int max = 0;
+        for (HeavyHitterShard shard : shards) {
+            synchronized (shard) {
+                max = Math.max(max, shard.categories());
+            }
+        }
+        return max;
+    }
+
+    private String normalize(String category) {
+        if (category == null || category.isBlank()) {
+            return null;
+        }
+        return category.trim().toLowerCase();
+    }
+
+    public record Trending(long publicationId, double score) {
+    }
+}
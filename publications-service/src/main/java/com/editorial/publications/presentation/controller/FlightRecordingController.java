@@ -0,0 +1,75 @@
+package com.editorial.publications.presentation.controller;
+
+import com.editorial.publications.infrastructure.jfr.FlightRecordingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+// Volcado bajo demanda de la grabación continua de JFR. La grabación incluye propiedades del sistema,
+// argumentos de la JVM y rutas de las peticiones, así que exige un secreto propio (no el token interno
+// entre servicios) y queda desactivado si no está configurado.
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1/admin/flight-recording")
+@Slf4j
+public class FlightRecordingController {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final FlightRecordingService flightRecordingService;
+    private final byte[] adminToken;
+
+    public FlightRecordingController(FlightRecordingService flightRecordingService,
+                                     @Value("${publications.jfr.admin-token:}") String adminToken) {
+        this.flightRecordingService = flightRecordingService;
+        this.adminToken = adminToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @GetMapping
+    public ResponseEntity<?> dumpRecording(@RequestHeader(value = "X-Admin-Token", required = false) String token) {
+        if (adminToken.length == 0) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Flight recording dumps are disabled"));
+        }
+        if (token == null || !MessageDigest.isEqual(adminToken, token.getBytes(StandardCharsets.UTF_8))) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "A valid X-Admin-Token is required to dump flight recordings"));
+        }
+        log.info("GET /admin/flight-recording - Dumping flight recording");
+        try {
+            Path file = flightRecordingService.dump();
+            long size = Files.size(file);
+            // El fichero temporal se borra al cerrar el stream, una vez enviado
+            InputStreamResource body = new InputStreamResource(Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE));
+            String filename = "publications-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr";
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .contentLength(size)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                    .body(body);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error dumping flight recording: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("error", e.getMessage()));
+        }
+    }
+}
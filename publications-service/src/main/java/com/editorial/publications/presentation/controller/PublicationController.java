@@ -1,13 +1,21 @@
 package com.editorial.publications.presentation.controller;
 
 import com.editorial.publications.application.service.IPublicationService;
+import com.editorial.publications.application.service.PublicationFieldSet;
 import com.editorial.publications.domain.entity.PublicationStatus;
+import com.editorial.publications.infrastructure.exception.PublicationValidationException;
+import com.editorial.publications.infrastructure.stream.PublicationEventStream;
+import com.editorial.publications.presentation.dto.BulkStatusTransitionDTO;
+import com.editorial.publications.presentation.dto.BulkStatusTransitionResultDTO;
 import com.editorial.publications.presentation.dto.CreatePublicationDTO;
+import com.editorial.publications.presentation.dto.DashboardStatsDTO;
 import com.editorial.publications.presentation.dto.PublicationResponseDTO;
+import com.editorial.publications.presentation.dto.TrendingPublicationDTO;
 import com.editorial.publications.presentation.dto.UpdatePublicationStatusDTO;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -15,11 +23,14 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1/publications")
 @AllArgsConstructor
 @Slf4j
@@ -27,10 +38,11 @@ import java.util.Map;
 public class PublicationController {
 
     private final IPublicationService publicationService;
+    private final PublicationEventStream publicationEventStream;
 
     @PostMapping
     public ResponseEntity<?> createPublication(@Valid @RequestBody CreatePublicationDTO createPublicationDTO) {
-        log.info("POST /publications - Creating new publication: {}", createPublicationDTO.getTitle());
+        log.debug("POST /publications - Creating new publication: {}", createPublicationDTO.getTitle());
         try {
             PublicationResponseDTO response = publicationService.createPublication(createPublicationDTO);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
@@ -41,11 +53,20 @@ public class PublicationController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> getPublicationById(@PathVariable Long id) {
-        log.info("GET /publications/{} - Fetching publication", id);
+    public ResponseEntity<?> getPublicationById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand) {
+        log.debug("GET /publications/{} - Fetching publication", id);
         try {
+            PublicationFieldSet fieldSet = PublicationFieldSet.parse(fields, expand);
+            if (!fieldSet.isDefaultView()) {
+                return ResponseEntity.ok(publicationService.getPublicationById(id, fieldSet));
+            }
             PublicationResponseDTO response = publicationService.getPublicationById(id);
             return ResponseEntity.ok(response);
+        } catch (PublicationValidationException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             log.error("Error fetching publication: {}", e.getMessage());
             return ResponseEntity.notFound().build();
@@ -56,10 +77,16 @@ public class PublicationController {
     public ResponseEntity<?> getAllPublications(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "id") String sortBy) {
-        log.info("GET /publications - Fetching all publications, page: {}, size: {}", page, size);
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand) {
+        log.debug("GET /publications - Fetching all publications, page: {}, size: {}", page, size);
         try {
             Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy).descending());
+            PublicationFieldSet fieldSet = PublicationFieldSet.parse(fields, expand);
+            if (!fieldSet.isDefaultView()) {
+                return ResponseEntity.ok(publicationService.getAllPublications(pageable, fieldSet));
+            }
             Page<PublicationResponseDTO> response = publicationService.getAllPublications(pageable);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -72,10 +99,16 @@ public class PublicationController {
     public ResponseEntity<?> getPublicationsByAuthor(
             @PathVariable Long authorId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        log.info("GET /publications/author/{} - Fetching publications for author", authorId);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand) {
+        log.debug("GET /publications/author/{} - Fetching publications for author", authorId);
         try {
             Pageable pageable = PageRequest.of(page, size);
+            PublicationFieldSet fieldSet = PublicationFieldSet.parse(fields, expand);
+            if (!fieldSet.isDefaultView()) {
+                return ResponseEntity.ok(publicationService.getPublicationsByAuthor(authorId, pageable, fieldSet));
+            }
             Page<PublicationResponseDTO> response = publicationService.getPublicationsByAuthor(authorId, pageable);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -84,14 +117,52 @@ public class PublicationController {
         }
     }
 
+    // Publicaciones movidas a almacenamiento frío (archivadas o eliminadas); no aparecen en los listados
+    @GetMapping("/archive")
+    public ResponseEntity<?> getArchivedPublications(
+            @RequestParam(required = false) Long authorId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        log.debug("GET /publications/archive - Fetching cold-storage publications (authorId: {})", authorId);
+        try {
+            Pageable pageable = PageRequest.of(page, size, Sort.by("id"));
+            Page<PublicationResponseDTO> response = publicationService.getArchivedPublications(authorId, pageable);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Error fetching archived publications: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // Más leídas recientemente (por id), global o por categoría; servido desde memoria
+    @GetMapping("/trending")
+    public ResponseEntity<?> getTrendingPublications(
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("GET /publications/trending - Fetching trending publications (category: {})", category);
+        try {
+            List<TrendingPublicationDTO> response = publicationService.getTrendingPublications(category, limit);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Error fetching trending publications: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @GetMapping("/status/{status}")
     public ResponseEntity<?> getPublicationsByStatus(
             @PathVariable PublicationStatus status,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        log.info("GET /publications/status/{} - Fetching publications with status", status);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand) {
+        log.debug("GET /publications/status/{} - Fetching publications with status", status);
         try {
             Pageable pageable = PageRequest.of(page, size);
+            PublicationFieldSet fieldSet = PublicationFieldSet.parse(fields, expand);
+            if (!fieldSet.isDefaultView()) {
+                return ResponseEntity.ok(publicationService.getPublicationsByStatus(status, pageable, fieldSet));
+            }
             Page<PublicationResponseDTO> response = publicationService.getPublicationsByStatus(status, pageable);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -104,10 +175,16 @@ public class PublicationController {
     public ResponseEntity<?> searchPublications(
             @RequestParam String keyword,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        log.info("GET /publications/search - Searching publications with keyword: {}", keyword);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand) {
+        log.debug("GET /publications/search - Searching publications with keyword: {}", keyword);
         try {
             Pageable pageable = PageRequest.of(page, size);
+            PublicationFieldSet fieldSet = PublicationFieldSet.parse(fields, expand);
+            if (!fieldSet.isDefaultView()) {
+                return ResponseEntity.ok(publicationService.searchPublications(keyword, pageable, fieldSet));
+            }
             Page<PublicationResponseDTO> response = publicationService.searchPublications(keyword, pageable);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -116,11 +193,27 @@ public class PublicationController {
         }
     }
 
+    // El tipo del cuerpo tiene que ser SseEmitter: con ResponseEntity<?> Spring MVC no reconoce el emisor
+    // y lo serializa como JSON, así que el rechazo se responde sin cuerpo
+    @GetMapping("/events/stream")
+    public ResponseEntity<SseEmitter> streamPublicationEvents(
+            @RequestParam(required = false) PublicationStatus status,
+            @RequestParam(required = false) Long authorId) {
+        log.debug("GET /publications/events/stream - Subscribing (status: {}, authorId: {})", status, authorId);
+        try {
+            SseEmitter emitter = publicationEventStream.subscribe(status, authorId);
+            return ResponseEntity.ok(emitter);
+        } catch (IllegalStateException e) {
+            log.warn("Rejecting event stream subscription: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
     @PatchMapping("/{id}/status")
     public ResponseEntity<?> updatePublicationStatus(
             @PathVariable Long id,
             @Valid @RequestBody UpdatePublicationStatusDTO updateDTO) {
-        log.info("PATCH /publications/{}/status - Updating status to: {}", id, updateDTO.getStatus());
+        log.debug("PATCH /publications/{}/status - Updating status to: {}", id, updateDTO.getStatus());
         try {
             PublicationResponseDTO response = publicationService.updatePublicationStatus(id, updateDTO);
             return ResponseEntity.ok(response);
@@ -130,9 +223,21 @@ public class PublicationController {
         }
     }
 
+    @PatchMapping("/status")
+    public ResponseEntity<?> bulkUpdatePublicationStatus(@Valid @RequestBody BulkStatusTransitionDTO bulkDTO) {
+        log.debug("PATCH /publications/status - Updating {} publications to: {}", bulkDTO.getIds().size(), bulkDTO.getStatus());
+        try {
+            BulkStatusTransitionResultDTO response = publicationService.bulkUpdatePublicationStatus(bulkDTO);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Error bulk updating publication status: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deletePublication(@PathVariable Long id) {
-        log.info("DELETE /publications/{} - Deleting publication", id);
+        log.debug("DELETE /publications/{} - Deleting publication", id);
         try {
             publicationService.deletePublication(id);
             return ResponseEntity.noContent().build();
@@ -170,4 +275,16 @@ public class PublicationController {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
+
+    @GetMapping("/stats/dashboard")
+    public ResponseEntity<?> getDashboardStats() {
+        log.debug("GET /publications/stats/dashboard - Getting dashboard stats");
+        try {
+            DashboardStatsDTO response = publicationService.getDashboardStats();
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Error getting dashboard stats: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", e.getMessage()));
+        }
+    }
 }
@@ -0,0 +1,282 @@
+package com.editorial.publications.presentation.controller;
+
+import com.editorial.publications.application.service.IReactivePublicationService;
+import com.editorial.publications.application.service.PublicationFieldSet;
+import com.editorial.publications.domain.entity.PublicationStatus;
+import com.editorial.publications.infrastructure.exception.PublicationValidationException;
+import com.editorial.publications.infrastructure.outbox.PublicationEvent;
+import com.editorial.publications.infrastructure.stream.ReactivePublicationEventStream;
+import com.editorial.publications.presentation.dto.BulkStatusTransitionDTO;
+import com.editorial.publications.presentation.dto.CreatePublicationDTO;
+import com.editorial.publications.presentation.dto.UpdatePublicationStatusDTO;
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Mismos endpoints y códigos de estado que PublicationController, servidos desde WebFlux
+// cuando el servicio arranca con el perfil reactive
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/v1/publications")
+@AllArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ReactivePublicationController {
+
+    private final IReactivePublicationService publicationService;
+    private final ReactivePublicationEventStream publicationEventStream;
+
+    @PostMapping
+    public Mono<ResponseEntity<Object>> createPublication(@Valid @RequestBody CreatePublicationDTO createPublicationDTO) {
+        log.debug("POST /publications - Creating new publication: {}", createPublicationDTO.getTitle());
+        return publicationService.createPublication(createPublicationDTO)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body((Object) response))
+                .onErrorResume(e -> {
+                    log.error("Error creating publication: {}", e.getMessage());
+                    return Mono.just(badRequest(e));
+                });
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Object>> getPublicationById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand) {
+        log.debug("GET /publications/{} - Fetching publication", id);
+        return Mono.fromCallable(() -> PublicationFieldSet.parse(fields, expand))
+                .flatMap(fieldSet -> fieldSet.isDefaultView()
+                        ? publicationService.getPublicationById(id).map(Object.class::cast)
+                        : publicationService.getPublicationById(id, fieldSet).map(Object.class::cast))
+                .map(ResponseEntity::ok)
+                .onErrorResume(PublicationValidationException.class, e -> Mono.just(badRequest(e)))
+                .onErrorResume(e -> {
+                    log.error("Error fetching publication: {}", e.getMessage());
+                    return Mono.just(ResponseEntity.notFound().build());
+                });
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Object>> getAllPublications(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand) {
+        log.debug("GET /publications - Fetching all publications, page: {}, size: {}", page, size);
+        return Mono.fromCallable(() -> PublicationFieldSet.parse(fields, expand))
+                .flatMap(fieldSet -> {
+                    Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy).descending());
+                    return fieldSet.isDefaultView()
+                            ? publicationService.getAllPublications(pageable).map(Object.class::cast)
+                            : publicationService.getAllPublications(pageable, fieldSet).map(Object.class::cast);
+                })
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> {
+                    log.error("Error fetching publications: {}", e.getMessage());
+                    return Mono.just(badRequest(e));
+                });
+    }
+
+    @GetMapping("/author/{authorId}")
+    public Mono<ResponseEntity<Object>> getPublicationsByAuthor(
+            @PathVariable Long authorId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand) {
+        log.debug("GET /publications/author/{} - Fetching publications for author", authorId);
+        return Mono.fromCallable(() -> PublicationFieldSet.parse(fields, expand))
+                .flatMap(fieldSet -> {
+                    Pageable pageable = PageRequest.of(page, size);
+                    return fieldSet.isDefaultView()
+                            ? publicationService.getPublicationsByAuthor(authorId, pageable).map(Object.class::cast)
+                            : publicationService.getPublicationsByAuthor(authorId, pageable, fieldSet).map(Object.class::cast);
+                })
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> {
+                    log.error("Error fetching publications by author: {}", e.getMessage());
+                    return Mono.just(badRequest(e));
+                });
+    }
+
+    @GetMapping("/archive")
+    public Mono<ResponseEntity<Object>> getArchivedPublications(
+            @RequestParam(required = false) Long authorId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        log.debug("GET /publications/archive - Fetching cold-storage publications (authorId: {})", authorId);
+        return publicationService.getArchivedPublications(authorId, PageRequest.of(page, size, Sort.by("id")))
+                .map(response -> ResponseEntity.ok((Object) response))
+                .onErrorResume(e -> {
+                    log.error("Error fetching archived publications: {}", e.getMessage());
+                    return Mono.just(badRequest(e));
+                });
+    }
+
+    @GetMapping("/trending")
+    public Mono<ResponseEntity<Object>> getTrendingPublications(
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("GET /publications/trending - Fetching trending publications (category: {})", category);
+        return publicationService.getTrendingPublications(category, limit)
+                .map(response -> ResponseEntity.ok((Object) response))
+                .onErrorResume(e -> {
+                    log.error("Error fetching trending publications: {}", e.getMessage());
+                    return Mono.just(badRequest(e));
+                });
+    }
+
+    @GetMapping("/status/{status}")
+    public Mono<ResponseEntity<Object>> getPublicationsByStatus(
+            @PathVariable PublicationStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand) {
+        log.debug("GET /publications/status/{} - Fetching publications with status", status);
+        return Mono.fromCallable(() -> PublicationFieldSet.parse(fields, expand))
+                .flatMap(fieldSet -> {
+                    Pageable pageable = PageRequest.of(page, size);
+                    return fieldSet.isDefaultView()
+                            ? publicationService.getPublicationsByStatus(status, pageable).map(Object.class::cast)
+                            : publicationService.getPublicationsByStatus(status, pageable, fieldSet).map(Object.class::cast);
+                })
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> {
+                    log.error("Error fetching publications by status: {}", e.getMessage());
+                    return Mono.just(badRequest(e));
+                });
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<Object>> searchPublications(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand) {
+        log.debug("GET /publications/search - Searching publications with keyword: {}", keyword);
+        return Mono.fromCallable(() -> PublicationFieldSet.parse(fields, expand))
+                .flatMap(fieldSet -> {
+                    Pageable pageable = PageRequest.of(page, size);
+                    return fieldSet.isDefaultView()
+                            ? publicationService.searchPublications(keyword, pageable).map(Object.class::cast)
+                            : publicationService.searchPublications(keyword, pageable, fieldSet).map(Object.class::cast);
+                })
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> {
+                    log.error("Error searching publications: {}", e.getMessage());
+                    return Mono.just(badRequest(e));
+                });
+    }
+
+    @GetMapping("/events/stream")
+    public ResponseEntity<?> streamPublicationEvents(
+            @RequestParam(required = false) PublicationStatus status,
+            @RequestParam(required = false) Long authorId) {
+        log.debug("GET /publications/events/stream - Subscribing (status: {}, authorId: {})", status, authorId);
+        try {
+            Flux<ServerSentEvent<PublicationEvent>> events = publicationEventStream.subscribe(status, authorId);
+            return ResponseEntity.ok().contentType(MediaType.TEXT_EVENT_STREAM).body(events);
+        } catch (IllegalStateException e) {
+            log.warn("Rejecting event stream subscription: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @PatchMapping("/{id}/status")
+    public Mono<ResponseEntity<Object>> updatePublicationStatus(
+            @PathVariable Long id,
+            @Valid @RequestBody UpdatePublicationStatusDTO updateDTO) {
+        log.debug("PATCH /publications/{}/status - Updating status to: {}", id, updateDTO.getStatus());
+        return publicationService.updatePublicationStatus(id, updateDTO)
+                .map(response -> ResponseEntity.ok((Object) response))
+                .onErrorResume(e -> {
+                    log.error("Error updating publication status: {}", e.getMessage());
+                    return Mono.just(badRequest(e));
+                });
+    }
+
+    @PatchMapping("/status")
+    public Mono<ResponseEntity<Object>> bulkUpdatePublicationStatus(@Valid @RequestBody BulkStatusTransitionDTO bulkDTO) {
+        log.debug("PATCH /publications/status - Updating {} publications to: {}", bulkDTO.getIds().size(), bulkDTO.getStatus());
+        return publicationService.bulkUpdatePublicationStatus(bulkDTO)
+                .map(response -> ResponseEntity.ok((Object) response))
+                .onErrorResume(e -> {
+                    log.error("Error bulk updating publication status: {}", e.getMessage());
+                    return Mono.just(badRequest(e));
+                });
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Object>> deletePublication(@PathVariable Long id) {
+        log.debug("DELETE /publications/{} - Deleting publication", id);
+        return publicationService.deletePublication(id)
+                .then(Mono.just(ResponseEntity.noContent().build()))
+                .onErrorResume(e -> {
+                    log.error("Error deleting publication: {}", e.getMessage());
+                    return Mono.just(ResponseEntity.notFound().build());
+                });
+    }
+
+    @GetMapping("/stats/total")
+    public Mono<ResponseEntity<Object>> getTotalPublications() {
+        log.debug("GET /publications/stats/total - Getting total publications");
+        return publicationService.getTotalPublications()
+                .map(total -> {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("total", total);
+                    return ResponseEntity.ok((Object) response);
+                })
+                .onErrorResume(e -> {
+                    log.error("Error getting total publications: {}", e.getMessage());
+                    return Mono.just(badRequest(e));
+                });
+    }
+
+    @GetMapping("/stats/by-status/{status}")
+    public Mono<ResponseEntity<Object>> getTotalPublicationsByStatus(@PathVariable PublicationStatus status) {
+        log.debug("GET /publications/stats/by-status/{} - Getting total by status", status);
+        return publicationService.getTotalPublicationsByStatus(status)
+                .map(total -> {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("status", status);
+                    response.put("total", total);
+                    return ResponseEntity.ok((Object) response);
+                })
+                .onErrorResume(e -> {
+                    log.error("Error getting publications by status: {}", e.getMessage());
+                    return Mono.just(badRequest(e));
+                });
+    }
+
+    @GetMapping("/stats/dashboard")
+    public Mono<ResponseEntity<Object>> getDashboardStats() {
+        log.debug("GET /publications/stats/dashboard - Getting dashboard stats");
+        return publicationService.getDashboardStats()
+                .map(response -> ResponseEntity.ok((Object) response))
+                .onErrorResume(e -> {
+                    log.error("Error getting dashboard stats: {}", e.getMessage());
+                    return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                            .body(Map.of("error", String.valueOf(e.getMessage()))));
+                });
+    }
+
+    private ResponseEntity<Object> badRequest(Throwable e) {
+        return ResponseEntity.badRequest().body(Map.of("error", String.valueOf(e.getMessage())));
+    }
+}
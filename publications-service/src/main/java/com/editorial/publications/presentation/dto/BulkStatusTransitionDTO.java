@@ -0,0 +1,27 @@
+package com.editorial.publications.presentation.dto;
+
+import com.editorial.publications.domain.entity.PublicationStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkStatusTransitionDTO {
+
+    @NotEmpty(message = "Publication IDs are required")
+    private List<Long> ids;
+
+    @NotNull(message = "Status is required")
+    private PublicationStatus status;
+
+    private String reviewerNotes;
+
+    private String rejectionReason;
+}
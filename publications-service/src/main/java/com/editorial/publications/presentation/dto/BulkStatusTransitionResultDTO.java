@@ -0,0 +1,36 @@
+package com.editorial.publications.presentation.dto;
+
+import com.editorial.publications.domain.entity.PublicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkStatusTransitionResultDTO {
+
+    private PublicationStatus status;
+
+    private int requested;
+
+    private int updated;
+
+    private int failed;
+
+    private List<ItemResult> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ItemResult {
+        private Long id;
+        private PublicationStatus previousStatus;
+        private boolean success;
+        private String error;
+    }
+}
@@ -0,0 +1,29 @@
+package com.editorial.publications.presentation.dto;
+
+import com.editorial.publications.domain.entity.PublicationStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class DashboardStatsDTO {
+
+    private Long totalAuthors;
+
+    private long totalPublications;
+
+    private Map<PublicationStatus, Long> publicationsByStatus;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime generatedAt;
+
+    private boolean stale;
+}
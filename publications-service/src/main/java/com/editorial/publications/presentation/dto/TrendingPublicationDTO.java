@@ -0,0 +1,18 @@
+package com.editorial.publications.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrendingPublicationDTO {
+
+    private Long id;
+
+    // Lecturas recientes estimadas, con decaimiento exponencial (no es un contador exacto)
+    private double score;
+}
@@ -0,0 +1,49 @@
+-- Esquema tal y como lo generaba ddl-auto=update. En bases de datos existentes
+-- Flyway marca esta versión como baseline (spring.flyway.baseline-on-migrate) y no la ejecuta.
+
+CREATE TABLE IF NOT EXISTS publications (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at       TIMESTAMP(6)  NOT NULL,
+    updated_at       TIMESTAMP(6),
+    published_at     TIMESTAMP(6),
+    is_active        BOOLEAN       NOT NULL,
+    title            VARCHAR(500)  NOT NULL,
+    description      VARCHAR(2000),
+    content          TEXT,
+    author_id        BIGINT        NOT NULL,
+    status           VARCHAR(255)  NOT NULL,
+    keywords         VARCHAR(500),
+    category         VARCHAR(100),
+    language         VARCHAR(50),
+    views_count      INTEGER,
+    reviewer_notes   VARCHAR(1000),
+    rejection_reason VARCHAR(1000)
+);
+
+CREATE INDEX IF NOT EXISTS idx_author_id ON publications (author_id);
+CREATE INDEX IF NOT EXISTS idx_status ON publications (status);
+CREATE INDEX IF NOT EXISTS idx_created_at ON publications (created_at);
+
+CREATE TABLE IF NOT EXISTS author_snapshots (
+    author_id    BIGINT        PRIMARY KEY,
+    name         VARCHAR(255),
+    email        VARCHAR(255),
+    author_type  VARCHAR(50),
+    refreshed_at TIMESTAMP(6)  NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_author_snapshots_refreshed_at ON author_snapshots (refreshed_at);
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    aggregate_id    BIGINT        NOT NULL,
+    event_type      VARCHAR(50)   NOT NULL,
+    payload         TEXT          NOT NULL,
+    created_at      TIMESTAMP(6)  NOT NULL,
+    attempts        INTEGER       NOT NULL,
+    next_attempt_at TIMESTAMP(6),
+    delivered_at    TIMESTAMP(6),
+    last_error      VARCHAR(1000)
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_delivered_at ON outbox_events (delivered_at);
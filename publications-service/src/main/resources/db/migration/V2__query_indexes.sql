@@ -0,0 +1,41 @@
+-- Índices ajustados a las consultas de PublicationRepository y OutboxEventRepository.
+-- Las lecturas públicas filtran por is_active = true, así que esos índices son parciales
+-- y llevan id como segunda columna para servir la paginación ordenada sin ordenar en memoria.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- findAllActive (ORDER BY id), countActive
+CREATE INDEX IF NOT EXISTS idx_publications_active_id
+    ON publications (id) WHERE is_active;
+
+-- findAllActive (ORDER BY created_at)
+CREATE INDEX IF NOT EXISTS idx_publications_active_created_at
+    ON publications (created_at) WHERE is_active;
+
+-- findByAuthorId, countByAuthorId, findByAuthorIdAndStatus
+CREATE INDEX IF NOT EXISTS idx_publications_active_author_id
+    ON publications (author_id, id) WHERE is_active;
+
+-- findByStatus, countByStatus, countActiveGroupedByStatus
+CREATE INDEX IF NOT EXISTS idx_publications_active_status_id
+    ON publications (status, id) WHERE is_active;
+
+-- searchByKeyword: LOWER(title) / LOWER(description) LIKE '%...%'
+CREATE INDEX IF NOT EXISTS idx_publications_active_title_trgm
+    ON publications USING gin (lower(title) gin_trgm_ops) WHERE is_active;
+
+CREATE INDEX IF NOT EXISTS idx_publications_active_description_trgm
+    ON publications USING gin (lower(description) gin_trgm_ops) WHERE is_active;
+
+-- findIdsByStatusPublishedBefore (archivado por lotes, recorre por id sin filtrar is_active)
+CREATE INDEX IF NOT EXISTS idx_publications_status_id_published_at
+    ON publications (status, id) INCLUDE (published_at);
+
+-- Sustituidos por los índices anteriores; idx_author_id se mantiene para
+-- findAuthorIdsWithoutSnapshot, que recorre también las publicaciones inactivas
+DROP INDEX IF EXISTS idx_status;
+DROP INDEX IF EXISTS idx_created_at;
+
+-- findPending, countPending y findOldestPendingCreatedAt solo miran eventos sin entregar
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending
+    ON outbox_events (id) INCLUDE (created_at) WHERE delivered_at IS NULL;
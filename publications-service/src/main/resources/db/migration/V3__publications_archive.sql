@@ -0,0 +1,30 @@
+-- Almacenamiento frío: las publicaciones archivadas o eliminadas (soft delete) se mueven por
+-- lotes desde publications (PublicationColdStorageJob), que queda solo con las filas vivas.
+
+CREATE TABLE IF NOT EXISTS publications_archive (
+    id               BIGINT        PRIMARY KEY,
+    created_at       TIMESTAMP(6)  NOT NULL,
+    updated_at       TIMESTAMP(6),
+    published_at     TIMESTAMP(6),
+    is_active        BOOLEAN       NOT NULL,
+    title            VARCHAR(500)  NOT NULL,
+    description      VARCHAR(2000),
+    content          TEXT,
+    author_id        BIGINT        NOT NULL,
+    status           VARCHAR(255)  NOT NULL,
+    keywords         VARCHAR(500),
+    category         VARCHAR(100),
+    language         VARCHAR(50),
+    views_count      INTEGER,
+    reviewer_notes   VARCHAR(1000),
+    rejection_reason VARCHAR(1000),
+    archived_at      TIMESTAMP(6)  NOT NULL
+);
+
+-- Listado de administración por autor (ORDER BY id)
+CREATE INDEX IF NOT EXISTS idx_publications_archive_author_id
+    ON publications_archive (author_id, id);
+
+-- findColdIds: candidatas a mover, recorridas por id
+CREATE INDEX IF NOT EXISTS idx_publications_cold_candidates
+    ON publications (id) INCLUDE (updated_at) WHERE NOT is_active OR status = 'ARCHIVED';
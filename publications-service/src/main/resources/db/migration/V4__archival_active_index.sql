@@ -0,0 +1,6 @@
+-- findIdsByStatusPublishedBefore filtra ahora is_active y devuelve author_id junto al id,
+-- así que el recorrido por (status, id) se resuelve solo con el índice parcial
+DROP INDEX IF EXISTS idx_publications_status_id_published_at;
+
+CREATE INDEX IF NOT EXISTS idx_publications_active_status_id_published_at
+    ON publications (status, id) INCLUDE (published_at, author_id) WHERE is_active;
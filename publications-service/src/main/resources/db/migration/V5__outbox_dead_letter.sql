@@ -0,0 +1,11 @@
+-- Eventos que agotan publications.outbox.retry.max-attempts: quedan marcados con failed_at (dead letter)
+-- y el relay deja de seleccionarlos
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS failed_at TIMESTAMP(6);
+
+-- findPending y findWaitingAggregateIds solo recorren eventos pendientes; next_attempt_at y aggregate_id van
+-- incluidos para separar los que aún esperan su reintento sin visitar la tabla
+DROP INDEX IF EXISTS idx_outbox_events_pending;
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending
+    ON outbox_events (id) INCLUDE (created_at, next_attempt_at, aggregate_id)
+    WHERE delivered_at IS NULL AND failed_at IS NULL;
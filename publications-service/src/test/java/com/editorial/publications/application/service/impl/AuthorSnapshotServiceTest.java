@@ -0,0 +1,83 @@
+package com.editorial.publications.application.service.impl;
+
+import com.editorial.publications.domain.entity.AuthorSnapshot;
+import com.editorial.publications.domain.repository.AuthorSnapshotRepository;
+import com.editorial.publications.domain.repository.PublicationRepository;
+import com.editorial.publications.infrastructure.cache.PublicationListingCache;
+import com.editorial.publications.infrastructure.client.AuthorServiceClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Los autores que findAuthors resuelve en remoto quedan pendientes, y el siguiente refresco programado
+// guarda su snapshot aunque ya no aparezcan en el recorrido de publicaciones sin snapshot
+class AuthorSnapshotServiceTest {
+
+    private final AuthorSnapshotRepository authorSnapshotRepository = mock(AuthorSnapshotRepository.class);
+    private final PublicationRepository publicationRepository = mock(PublicationRepository.class);
+    private final AuthorServiceClient authorServiceClient = mock(AuthorServiceClient.class);
+    private AuthorSnapshotService authorSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        authorSnapshotService = new AuthorSnapshotService(authorSnapshotRepository, publicationRepository,
+                authorServiceClient, mock(PublicationListingCache.class), mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(authorSnapshotService, "ttl", 600000L);
+        ReflectionTestUtils.setField(authorSnapshotService, "refreshBatchSize", 100);
+        when(authorSnapshotRepository.findAllById(anyCollection())).thenReturn(List.of());
+        when(publicationRepository.findAuthorIdsWithoutSnapshot(any())).thenReturn(List.of());
+        when(authorSnapshotRepository.findStaleAuthorIds(any(), any())).thenReturn(List.of());
+    }
+
+    @Test
+    void remotelyFetchedAuthorsAreSnapshottedByTheNextRefresh() {
+        when(authorServiceClient.getAuthorsByIds(anyCollection()))
+                .thenAnswer(invocation -> summaries(invocation.getArgument(0)));
+
+        assertThat(authorSnapshotService.findAuthors(List.of(3L, 4L))).containsOnlyKeys(3L, 4L);
+        authorSnapshotService.refreshSnapshots();
+
+        // Una vez para la respuesta y otra en el refresco
+        verify(authorServiceClient, times(2)).getAuthorsByIds(Set.of(3L, 4L));
+        assertThat(savedAuthorIds()).containsExactly(3L, 4L);
+    }
+
+    @Test
+    void authorsStayPendingWhenTheRemoteCallFails() {
+        when(authorServiceClient.getAuthorsByIds(anyCollection()))
+                .thenThrow(new RuntimeException("Authors Service unavailable"))
+                .thenAnswer(invocation -> summaries(invocation.getArgument(0)));
+
+        assertThat(authorSnapshotService.findAuthors(List.of(5L))).isEmpty();
+        authorSnapshotService.refreshSnapshots();
+
+        assertThat(savedAuthorIds()).containsExactly(5L);
+    }
+
+    private static List<AuthorServiceClient.AuthorInfo> summaries(Collection<Long> authorIds) {
+        return authorIds.stream()
+                .map(id -> new AuthorServiceClient.AuthorInfo(id, "Author " + id, null, "INDIVIDUAL"))
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> savedAuthorIds() {
+        ArgumentCaptor<List<AuthorSnapshot>> saved = ArgumentCaptor.forClass(List.class);
+        verify(authorSnapshotRepository).saveAll(saved.capture());
+        return saved.getValue().stream().map(AuthorSnapshot::getAuthorId).toList();
+    }
+}
@@ -0,0 +1,174 @@
+package com.editorial.publications.domain.repository;
+
+import com.editorial.publications.PostgresContainerTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+// Comprueba contra el esquema migrado por Flyway que cada consulta caliente de los repositorios
+// resuelve por el índice pensado para ella. Las sentencias reproducen el SQL que genera Hibernate
+// para cada método (mismos predicados y orden); si alguien cambia la consulta o el índice sin
+// mantener la forma, el plan deja de nombrar el índice y el test falla.
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryIndexPlanTest extends PostgresContainerTest {
+
+    private static final int PUBLICATIONS = 20_000;
+    private static final int AUTHORS = 500;
+    private static final int OUTBOX_EVENTS = 10_000;
+
+    private static final String SEARCH_BY_KEYWORD = "SELECT * FROM publications WHERE is_active = true "
+            + "AND (lower(title) LIKE lower('%' || 'c4ca4238a0' || '%') "
+            + "OR lower(description) LIKE lower('%' || 'c4ca4238a0' || '%')) LIMIT 10";
+
+    // Sin orden por id, el índice de delivered_at (rango IS NULL) acota igual de bien la cola pendiente
+    private static final String PENDING_SET = "idx_outbox_events_(pending|delivered_at)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // @BeforeAll queda fuera de la transacción del test: los datos se confirman para que VACUUM ANALYZE
+    // deje estadísticas y mapa de visibilidad (index-only scans) como en producción, y se borran al
+    // final para no afectar al resto de clases que comparten el contenedor
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("""
+                INSERT INTO publications (created_at, updated_at, published_at, is_active, title, description,
+                                          author_id, status, views_count)
+                SELECT now() - g * interval '1 minute', now() - g * interval '1 minute',
+                       CASE WHEN g % 6 = 3 THEN now() - g * interval '5 minute' END, g % 10 <> 0,
+                       'Title ' || md5(g::text), 'Description ' || md5((-g)::text), g % ? + 1,
+                       CASE WHEN g % 6 = 3 THEN 'PUBLISHED' WHEN g % 100 = 1 THEN 'IN_REVIEW'
+                            ELSE (ARRAY['DRAFT', 'APPROVED', 'REJECTED', 'ARCHIVED'])[g % 4 + 1] END, 0
+                FROM generate_series(1, ?) g
+                """, AUTHORS, PUBLICATIONS);
+        jdbcTemplate.update("""
+                INSERT INTO publications_archive (id, created_at, published_at, is_active, title, author_id, status,
+                                                  archived_at)
+                SELECT ? + g, now() - interval '2 years', now() - interval '2 years', false, 'Archived ' || g,
+                       g % ? + 1, 'ARCHIVED', now()
+                FROM generate_series(1, ?) g
+                """, PUBLICATIONS, AUTHORS, PUBLICATIONS / 2);
+        jdbcTemplate.update("""
+                INSERT INTO author_snapshots (author_id, name, author_type, refreshed_at)
+                SELECT g, 'Author ' || g, 'INDIVIDUAL', now() - g * interval '1 minute'
+                FROM generate_series(1, ?) g
+                """, AUTHORS - 50);
+        // Casi todo entregado; una cola pequeña pendiente, parte de ella esperando reintento
+        jdbcTemplate.update("""
+                INSERT INTO outbox_events (aggregate_id, event_type, payload, created_at, attempts, next_attempt_at,
+                                           delivered_at)
+                SELECT g % ? + 1, 'PUBLICATION_UPDATED', '{}', now() - g * interval '1 second',
+                       CASE WHEN g % 200 = 1 THEN 1 ELSE 0 END,
+                       CASE WHEN g % 200 = 1 THEN now() + interval '1 minute' END,
+                       CASE WHEN g > 200 THEN now() - g * interval '1 second' END
+                FROM generate_series(1, ?) g
+                """, PUBLICATIONS, OUTBOX_EVENTS);
+        jdbcTemplate.execute("VACUUM ANALYZE publications");
+        jdbcTemplate.execute("VACUUM ANALYZE publications_archive");
+        jdbcTemplate.execute("VACUUM ANALYZE author_snapshots");
+        jdbcTemplate.execute("VACUUM ANALYZE outbox_events");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.execute("TRUNCATE publications, publications_archive, author_snapshots, outbox_events "
+                + "RESTART IDENTITY");
+    }
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                arguments("PublicationRepository.findAllActive (sortBy=id)",
+                        "SELECT * FROM publications WHERE is_active = true ORDER BY id DESC LIMIT 10",
+                        "idx_publications_active_id"),
+                arguments("PublicationRepository.findAllActive (sortBy=createdAt)",
+                        "SELECT * FROM publications WHERE is_active = true ORDER BY created_at DESC LIMIT 10",
+                        "idx_publications_active_created_at"),
+                arguments("PublicationRepository.countActive",
+                        "SELECT count(id) FROM publications WHERE is_active = true",
+                        "idx_publications_active_id"),
+                arguments("PublicationRepository.findByAuthorId",
+                        "SELECT * FROM publications WHERE author_id = 42 AND is_active = true LIMIT 10",
+                        "idx_publications_active_author_id"),
+                arguments("PublicationRepository.countByAuthorId",
+                        "SELECT count(id) FROM publications WHERE author_id = 42 AND is_active = true",
+                        "idx_publications_active_author_id"),
+                arguments("PublicationRepository.findByStatus",
+                        "SELECT * FROM publications WHERE status = 'IN_REVIEW' AND is_active = true LIMIT 10",
+                        "idx_publications_active_status_id"),
+                arguments("PublicationRepository.countActiveGroupedByStatus",
+                        "SELECT status, count(id) FROM publications WHERE is_active = true GROUP BY status",
+                        "idx_publications_active_status_id"),
+                arguments("PublicationRepository.searchByKeyword (title)",
+                        SEARCH_BY_KEYWORD,
+                        "idx_publications_active_title_trgm"),
+                arguments("PublicationRepository.searchByKeyword (description)",
+                        SEARCH_BY_KEYWORD,
+                        "idx_publications_active_description_trgm"),
+                arguments("PublicationRepository.findIdsByStatusPublishedBefore",
+                        "SELECT id, author_id FROM publications WHERE status = 'PUBLISHED' "
+                                + "AND published_at < now() - interval '30 days' AND is_active = true AND id > 0 "
+                                + "ORDER BY id LIMIT 500",
+                        "idx_publications_active_status_id_published_at"),
+                arguments("PublicationRepository.findColdIds",
+                        "SELECT id FROM publications WHERE (is_active = false OR status = 'ARCHIVED') "
+                                + "AND updated_at < now() - interval '1 day' AND id > 0 ORDER BY id LIMIT 500",
+                        "idx_publications_cold_candidates"),
+                arguments("PublicationRepository.findAuthorIdsWithoutSnapshot",
+                        "SELECT DISTINCT p.author_id FROM publications p WHERE NOT EXISTS "
+                                + "(SELECT 1 FROM author_snapshots s WHERE s.author_id = p.author_id) LIMIT 100",
+                        "idx_author_id"),
+                arguments("AuthorSnapshotRepository.findStaleAuthorIds",
+                        "SELECT author_id FROM author_snapshots WHERE refreshed_at < now() - interval '1 hour' "
+                                + "ORDER BY refreshed_at LIMIT 100",
+                        "idx_author_snapshots_refreshed_at"),
+                arguments("PublicationArchiveRepository.findByAuthorId",
+                        "SELECT * FROM publications_archive WHERE author_id = 42 ORDER BY id LIMIT 10",
+                        "idx_publications_archive_author_id"),
+                arguments("OutboxEventRepository.findPending",
+                        "SELECT * FROM outbox_events WHERE delivered_at IS NULL AND failed_at IS NULL "
+                                + "AND (next_attempt_at IS NULL OR next_attempt_at <= now()) ORDER BY id LIMIT 100",
+                        "idx_outbox_events_pending"),
+                arguments("OutboxEventRepository.findPendingExcluding",
+                        "SELECT * FROM outbox_events WHERE delivered_at IS NULL AND failed_at IS NULL "
+                                + "AND (next_attempt_at IS NULL OR next_attempt_at <= now()) "
+                                + "AND aggregate_id NOT IN (2, 202, 402) ORDER BY id LIMIT 100",
+                        "idx_outbox_events_pending"),
+                arguments("OutboxEventRepository.findWaitingAggregateIds",
+                        "SELECT DISTINCT aggregate_id FROM outbox_events WHERE delivered_at IS NULL "
+                                + "AND failed_at IS NULL AND next_attempt_at > now()",
+                        PENDING_SET),
+                arguments("OutboxEventRepository.countPending",
+                        "SELECT count(id) FROM outbox_events WHERE delivered_at IS NULL AND failed_at IS NULL",
+                        PENDING_SET),
+                arguments("OutboxEventRepository.deleteDeliveredBefore",
+                        "DELETE FROM outbox_events WHERE delivered_at < now() - interval '7 days'",
+                        "idx_outbox_events_delivered_at"));
+    }
+
+    // enable_seqscan = off solo penaliza el recorrido secuencial: si el índice no encaja con el
+    // predicado o el orden, el planificador no puede usarlo y el plan lo delata
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueryUsesItsIndex(String repositoryMethod, String sql, String expectedIndex) {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+
+        assertThat(plan)
+                .as("plan for %s", repositoryMethod)
+                .containsPattern(expectedIndex);
+    }
+}
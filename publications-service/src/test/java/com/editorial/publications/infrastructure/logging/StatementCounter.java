@@ -0,0 +1,49 @@
+package com.editorial.publications.infrastructure.logging;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Cuenta las sentencias SQL y llamadas a Authors Service de un bloque con la misma instrumentación que el
+// access log (RequestTimings en el hilo del test) y las compara con el presupuesto del endpoint en
+// access-log.budgets. Con MockMvc hay que desactivar los filtros (addFilters = false): AccessLogFilter
+// abriría sus propios RequestTimings y el contador no vería nada
+public final class StatementCounter {
+
+    private final Map<String, AccessLogFilter.Budget> budgets;
+
+    public StatementCounter(String budgets) {
+        this.budgets = AccessLogFilter.parseBudgets(budgets);
+    }
+
+    public static RequestTimings count(Work work) throws Exception {
+        RequestTimings timings = RequestTimings.start();
+        try {
+            work.run();
+        } finally {
+            RequestTimings.clear();
+        }
+        return timings;
+    }
+
+    public RequestTimings assertWithinBudget(String endpoint, Work work) throws Exception {
+        AccessLogFilter.Budget budget = budgets.get(endpoint);
+        assertThat(budget).as("access-log.budgets entry for %s", endpoint).isNotNull();
+
+        RequestTimings timings = count(work);
+        assertThat(timings.getSqlStatements())
+                .as("SQL statements for %s", endpoint)
+                .isLessThanOrEqualTo(budget.sqlStatements());
+        if (budget.remoteCalls() >= 0) {
+            assertThat(timings.getRemoteCalls())
+                    .as("remote calls for %s", endpoint)
+                    .isLessThanOrEqualTo(budget.remoteCalls());
+        }
+        return timings;
+    }
+
+    @FunctionalInterface
+    public interface Work {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,158 @@
+package com.editorial.publications.infrastructure.outbox;
+
+import com.editorial.publications.PostgresContainerTest;
+import com.editorial.publications.domain.entity.OutboxEvent;
+import com.editorial.publications.domain.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Dos relays sobre la misma tabla, como dos réplicas: cada evento se entrega una sola vez y los de una
+// misma publicación llegan en orden aunque los relays entreguen a la vez
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTest extends PostgresContainerTest {
+
+    private static final int EVENTS = 300;
+    private static final int PUBLICATIONS = 20;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final List<PublicationEvent> deliveries = Collections.synchronizedList(new ArrayList<>());
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.execute("TRUNCATE outbox_events RESTART IDENTITY");
+    }
+
+    @Test
+    void concurrentRelaysDeliverEachEventOnceAndInOrder() {
+        saveEvents(EVENTS);
+        // Lotes pequeños y una entrega lenta para que los dos relays se solapen
+        OutboxRelay first = relay(10);
+        OutboxRelay second = relay(10);
+
+        CompletableFuture.allOf(
+                CompletableFuture.runAsync(() -> drain(first)),
+                CompletableFuture.runAsync(() -> drain(second))).join();
+
+        assertThat(deliveries).extracting(PublicationEvent::getEventId)
+                .doesNotHaveDuplicates()
+                .hasSize(EVENTS);
+        Map<Long, Long> lastByPublication = new HashMap<>();
+        for (PublicationEvent event : deliveries) {
+            Long previous = lastByPublication.put(event.getPublicationId(), event.getEventId());
+            assertThat(previous == null || previous < event.getEventId())
+                    .as("event %d of publication %d delivered after event %d",
+                            event.getEventId(), event.getPublicationId(), previous)
+                    .isTrue();
+        }
+    }
+
+    @Test
+    void eventsClaimedByAnotherReplicaAreSkippedUntilTheClaimExpires() {
+        saveEvents(2 * PUBLICATIONS);
+        List<Long> claimedByOther = jdbcTemplate.queryForList(
+                "SELECT id FROM outbox_events WHERE aggregate_id = 1", Long.class);
+        transactionTemplate.executeWithoutResult(status ->
+                outboxEventRepository.claim(claimedByOther, LocalDateTime.now().plusMinutes(1)));
+
+        OutboxRelay relay = relay(EVENTS);
+        relay.relay();
+        assertThat(deliveries).hasSize(2 * PUBLICATIONS - claimedByOther.size())
+                .noneMatch(event -> event.getPublicationId() == 1);
+
+        // La otra réplica cae sin entregar: al vencer su reclamación, el lote vuelve a la cola
+        transactionTemplate.executeWithoutResult(status ->
+                outboxEventRepository.claim(claimedByOther, LocalDateTime.now().minusSeconds(1)));
+        relay.relay();
+        assertThat(deliveries).hasSize(2 * PUBLICATIONS);
+    }
+
+    private void saveEvents(int count) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long publicationId = i % PUBLICATIONS + 1;
+            events.add(OutboxEvent.builder()
+                    .aggregateId(publicationId)
+                    .eventType(PublicationEventType.STATUS_CHANGED.name())
+                    .payload(payload(publicationId, now))
+                    .createdAt(now)
+                    .build());
+        }
+        outboxEventRepository.saveAll(events);
+    }
+
+    private String payload(long publicationId, LocalDateTime occurredAt) {
+        try {
+            return objectMapper.writeValueAsString(PublicationEvent.builder()
+                    .type(PublicationEventType.STATUS_CHANGED)
+                    .publicationId(publicationId)
+                    .occurredAt(occurredAt)
+                    .build());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void drain(OutboxRelay relay) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(60).toNanos();
+        while (outboxEventRepository.countPending() > 0 && System.nanoTime() < deadline) {
+            relay.relay();
+            LockSupport.parkNanos(Duration.ofMillis(5).toNanos());
+        }
+    }
+
+    private OutboxRelay relay(int batchSize) {
+        PublicationEventSink sink = new PublicationEventSink() {
+            @Override
+            public String getName() {
+                return "recording";
+            }
+
+            @Override
+            public void deliver(List<PublicationEvent> events) throws Exception {
+                Thread.sleep(20);
+                deliveries.addAll(events);
+            }
+        };
+        OutboxRelay relay = new OutboxRelay(outboxEventRepository, List.of(sink), objectMapper, transactionTemplate,
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(relay, "batchSize", batchSize);
+        ReflectionTestUtils.setField(relay, "claimTimeout", 60000L);
+        ReflectionTestUtils.setField(relay, "maxAttempts", 10);
+        return relay;
+    }
+}
@@ -0,0 +1,66 @@
+package com.editorial.publications.presentation.controller;
+
+import com.editorial.publications.PostgresContainerTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Una publicación eliminada (is_active = false) no cambia de estado en una transición masiva: se
+// informa como no encontrada, igual que en las lecturas
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class PublicationBulkStatusTest extends PostgresContainerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.execute("TRUNCATE publications, outbox_events RESTART IDENTITY");
+    }
+
+    @Test
+    void deletedPublicationsAreReportedAsNotFound() throws Exception {
+        long active = insertDraft(true);
+        long deleted = insertDraft(false);
+
+        mockMvc.perform(patch("/api/v1/publications/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[%d,%d],\"status\":\"IN_REVIEW\"}".formatted(active, deleted)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].success").value(true))
+                .andExpect(jsonPath("$.results[1].success").value(false))
+                .andExpect(jsonPath("$.results[1].error").value("Publication not found with id: " + deleted));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM publications WHERE id = ?", String.class, deleted))
+                .isEqualTo("DRAFT");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_events WHERE aggregate_id = ?",
+                Long.class, deleted)).isZero();
+    }
+
+    private long insertDraft(boolean active) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO publications (created_at, updated_at, is_active, title, content, author_id, status,
+                                          views_count)
+                VALUES (now(), now(), ?, 'Title', 'Content', 1, 'DRAFT', 0)
+                RETURNING id
+                """, Long.class, active);
+    }
+}
@@ -0,0 +1,193 @@
+package com.editorial.publications.presentation.controller;
+
+import com.editorial.publications.PostgresContainerTest;
+import com.editorial.publications.infrastructure.logging.RequestTimings;
+import com.editorial.publications.infrastructure.logging.StatementCounter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.ResponseCreator;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Endpoints dentro de su presupuesto de access-log.budgets, en sentencias SQL y en llamadas a
+// Authors Service. Authors Service se simula sobre el RestTemplate real, así que las llamadas pasan por
+// RemoteCallTimingInterceptor y cuentan igual que en producción; una llamada no esperada hace fallar el test
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PublicationEndpointBudgetTest extends PostgresContainerTest {
+
+    private static final int PUBLICATIONS = 200;
+    private static final int AUTHORS = 100;
+    // Autores 1..60 con snapshot; el resto solo se puede resolver en Authors Service
+    private static final int AUTHORS_WITH_SNAPSHOT = 60;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Value("${access-log.budgets}")
+    private String budgets;
+
+    private StatementCounter statementCounter;
+    private MockRestServiceServer authorsService;
+
+    @BeforeAll
+    void seed() {
+        statementCounter = new StatementCounter(budgets);
+        jdbcTemplate.update("""
+                INSERT INTO publications (created_at, updated_at, published_at, is_active, title, content, author_id,
+                                          status, views_count)
+                SELECT now(), now(), now(), true, 'Title ' || g, 'Content ' || g, g % ? + 1, 'PUBLISHED', 0
+                FROM generate_series(1, ?) g
+                """, AUTHORS, PUBLICATIONS);
+        jdbcTemplate.update("""
+                INSERT INTO author_snapshots (author_id, name, author_type, refreshed_at)
+                SELECT g, 'Author ' || g, 'INDIVIDUAL', now()
+                FROM generate_series(1, ?) g
+                """, AUTHORS_WITH_SNAPSHOT);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.execute("TRUNCATE publications, author_snapshots, outbox_events RESTART IDENTITY");
+    }
+
+    @BeforeEach
+    void stubAuthorsService() {
+        authorsService = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    @AfterEach
+    void verifyAuthorsService() {
+        authorsService.verify();
+    }
+
+    @Test
+    void listingStaysWithinBudget() throws Exception {
+        authorsService.expect(once(), requestTo(startsWith("http://authors.test/api/v1/authors/summaries")))
+                .andRespond(authorSummaries());
+
+        RequestTimings timings = statementCounter.assertWithinBudget("GET /api/v1/publications",
+                () -> mockMvc.perform(get("/api/v1/publications").param("size", "50"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.content.length()").value(50))
+                        .andExpect(jsonPath("$.content[?(@.author == null)]").isEmpty()));
+
+        // Los autores sin snapshot de la página se piden en un solo lote
+        assertThat(timings.getSqlStatements()).isPositive();
+        assertThat(timings.getRemoteCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void listingByAuthorWithSnapshotMakesNoRemoteCall() throws Exception {
+        RequestTimings timings = statementCounter.assertWithinBudget("GET /api/v1/publications/author/{authorId}",
+                () -> mockMvc.perform(get("/api/v1/publications/author/{authorId}", 7))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.content.length()").value(PUBLICATIONS / AUTHORS))
+                        .andExpect(jsonPath("$.content[0].author.name").value("Author 7")));
+
+        assertThat(timings.getRemoteCalls()).isZero();
+    }
+
+    @Test
+    void lookupByIdStaysWithinBudget() throws Exception {
+        statementCounter.assertWithinBudget("GET /api/v1/publications/{id}",
+                () -> mockMvc.perform(get("/api/v1/publications/{id}", 5))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.author.name").value("Author 6")));
+    }
+
+    @Test
+    void totalStaysWithinBudget() throws Exception {
+        // Los tests de alta y borrado pueden haberse ejecutado antes
+        long active = jdbcTemplate.queryForObject("SELECT count(*) FROM publications WHERE is_active", Long.class);
+        statementCounter.assertWithinBudget("GET /api/v1/publications/stats/total",
+                () -> mockMvc.perform(get("/api/v1/publications/stats/total"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.total").value(active)));
+    }
+
+    // Peor caso de alta: autor sin snapshot, que se valida en remoto y se lee de /summaries para la
+    // respuesta; el snapshot que se guarda tras el commit reutiliza esos datos sin otra llamada
+    @Test
+    void createStaysWithinBudget() throws Exception {
+        authorsService.expect(once(), requestTo("http://authors.test/api/v1/authors/%d/exists".formatted(AUTHORS)))
+                .andRespond(withSuccess("{\"id\":%d,\"exists\":true}".formatted(AUTHORS), MediaType.APPLICATION_JSON));
+        authorsService.expect(once(), requestTo(startsWith("http://authors.test/api/v1/authors/summaries")))
+                .andRespond(authorSummaries());
+
+        statementCounter.assertWithinBudget("POST /api/v1/publications",
+                () -> mockMvc.perform(post("/api/v1/publications")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"title\":\"Budget\",\"content\":\"Budget content\",\"authorId\":%d}"
+                                        .formatted(AUTHORS)))
+                        .andExpect(status().isCreated())
+                        .andExpect(jsonPath("$.author.name").value("Author " + AUTHORS)));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM author_snapshots WHERE author_id = ?",
+                String.class, AUTHORS)).isEqualTo("Author " + AUTHORS);
+    }
+
+    @Test
+    void statusChangeStaysWithinBudget() throws Exception {
+        statementCounter.assertWithinBudget("PATCH /api/v1/publications/{id}/status",
+                () -> mockMvc.perform(patch("/api/v1/publications/{id}/status", 10)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"status\":\"ARCHIVED\"}"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.status").value("ARCHIVED")));
+    }
+
+    @Test
+    void deleteStaysWithinBudget() throws Exception {
+        statementCounter.assertWithinBudget("DELETE /api/v1/publications/{id}",
+                () -> mockMvc.perform(delete("/api/v1/publications/{id}", 20))
+                        .andExpect(status().isNoContent()));
+    }
+
+    // Responde con un resumen por cada id pedido en /summaries?ids=...
+    private static ResponseCreator authorSummaries() {
+        return request -> {
+            String ids = UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams().getFirst("ids");
+            String body = Arrays.stream(ids.split(","))
+                    .map(id -> "{\"id\":%s,\"name\":\"Author %s\",\"authorType\":\"INDIVIDUAL\"}".formatted(id, id))
+                    .collect(Collectors.joining(",", "[", "]"));
+            return withSuccess(body, MediaType.APPLICATION_JSON).createResponse(request);
+        };
+    }
+}